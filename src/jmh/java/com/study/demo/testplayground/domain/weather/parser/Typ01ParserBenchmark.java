@@ -0,0 +1,143 @@
+package com.study.demo.testplayground.domain.weather.parser;
+
+import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * typ01 응답 파서 비교: 기존 String split/regex 방식 vs Typ01Scanner 바이트 스캔 방식
+ * 실행: ./gradlew jmh -PjmhIncludes=Typ01ParserBenchmark
+ *
+ * 기존 방식은 WeatherApiService의 이전 파서 로직(split("\n"), trim(), split("\\s+"), replaceAll)에
+ * 변환 단계에서 하던 문자열 → 숫자/날짜 변환을 더한 것으로, 두 방식 모두 같은 타입의 결과를 만든다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class Typ01ParserBenchmark {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    @Param({"10", "500"})
+    private int regions;
+
+    private byte[] temperatureBody;
+    private byte[] landBody;
+
+    @Setup
+    public void setUp() {
+        StringBuilder temperature = new StringBuilder("#START7777\n")
+                .append("# REG_ID TM_FC        TM_EF        MOD STN C MIN MAX MIN_L MIN_H MAX_L MAX_H\n");
+        StringBuilder land = new StringBuilder("#START7777\n")
+                .append("# REG_ID TM_FC        TM_EF        MOD STN C SKY  PRE  CONF WF    RN_ST\n");
+
+        for (int r = 0; r < regions; r++) {
+            for (int day = 3; day <= 10; day++) {
+                String tmEf = String.format("202507%02d0000", day + 2);
+                temperature.append(String.format("11B1%04d 202507020600 %s A01 109 2  %d  %d    1    1    1    1%n",
+                        r, tmEf, 20 + day % 5, 28 + day % 4));
+                land.append(String.format("11B%05d 202507020600 %s A02 109 2 WB04 WB00 없음 \"%s\" %d%n",
+                        r, tmEf, day % 2 == 0 ? "흐림" : "구름많고 비", 10 * (day % 7)));
+            }
+        }
+        temperature.append("#7777END\n");
+        land.append("#7777END\n");
+
+        temperatureBody = temperature.toString().getBytes(StandardCharsets.UTF_8);
+        landBody = land.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<WeatherResDTO.MediumTermTemperatureItem> temperatureLegacy() {
+        return legacyTemperature(new String(temperatureBody, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public List<WeatherResDTO.MediumTermTemperatureItem> temperatureScanner() {
+        return Typ01ResponseParser.parseMediumTermTemperature(temperatureBody, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<WeatherResDTO.MediumTermLandWeatherItem> landLegacy() {
+        return legacyLand(new String(landBody, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public List<WeatherResDTO.MediumTermLandWeatherItem> landScanner() {
+        return Typ01ResponseParser.parseMediumTermLandWeather(landBody, StandardCharsets.UTF_8);
+    }
+
+    // === 기존 파서 로직 ===
+
+    private static List<WeatherResDTO.MediumTermTemperatureItem> legacyTemperature(String response) {
+        List<WeatherResDTO.MediumTermTemperatureItem> items = new ArrayList<>();
+
+        for (String line : response.split("\n")) {
+            line = line.trim();
+            if (line.startsWith("#") || line.isEmpty()) {
+                continue;
+            }
+
+            String[] parts = line.split("\\s+");
+            if (parts.length >= 8) {
+                items.add(WeatherResDTO.MediumTermTemperatureItem.builder()
+                        .regId(parts[0])
+                        .tmFc(LocalDateTime.parse(parts[1], DATE_TIME_FORMATTER))
+                        .tmEf(LocalDateTime.parse(parts[2], DATE_TIME_FORMATTER))
+                        .code(parts[3])
+                        .stnCode(parts[4])
+                        .ctaCode(parts[5])
+                        .taMin3(Integer.parseInt(parts[6]))
+                        .taMax3(Integer.parseInt(parts[7]))
+                        .taMin3Low(parts.length > 8 ? Integer.parseInt(parts[8]) : 1)
+                        .taMin3High(parts.length > 9 ? Integer.parseInt(parts[9]) : 1)
+                        .taMax3Low(parts.length > 10 ? Integer.parseInt(parts[10]) : 1)
+                        .taMax3High(parts.length > 11 ? Integer.parseInt(parts[11]) : 1)
+                        .build());
+            }
+        }
+        return items;
+    }
+
+    private static List<WeatherResDTO.MediumTermLandWeatherItem> legacyLand(String response) {
+        List<WeatherResDTO.MediumTermLandWeatherItem> items = new ArrayList<>();
+
+        for (String line : response.split("\n")) {
+            line = line.trim();
+            if (line.startsWith("#") || line.isEmpty()) {
+                continue;
+            }
+
+            String processedLine = line;
+            if (line.contains("\"")) {
+                processedLine = line.replaceAll("\"([^\"]+)\"", "$1");
+            }
+
+            String[] parts = processedLine.split("\\s+");
+            if (parts.length >= 10) {
+                String wf = parts[9];
+                int rnSt = parts.length > 10 ? Integer.parseInt(parts[parts.length - 1]) : 0;
+
+                items.add(WeatherResDTO.MediumTermLandWeatherItem.builder()
+                        .regId(parts[0])
+                        .tmFc(LocalDateTime.parse(parts[1], DATE_TIME_FORMATTER))
+                        .tmEf(LocalDateTime.parse(parts[2], DATE_TIME_FORMATTER))
+                        .code(parts[3])
+                        .stnCode(parts[4])
+                        .ctaCode(parts[5])
+                        .wf3Am(wf)
+                        .wf3Pm(wf)
+                        .rnSt3Am(rnSt)
+                        .rnSt3Pm(rnSt)
+                        .build());
+            }
+        }
+        return items;
+    }
+}
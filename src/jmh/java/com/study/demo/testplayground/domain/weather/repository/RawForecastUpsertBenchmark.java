@@ -0,0 +1,154 @@
+package com.study.demo.testplayground.domain.weather.repository;
+
+import com.study.demo.testplayground.domain.weather.entity.RawShortTermWeather;
+import com.study.demo.testplayground.domain.weather.entity.Region;
+import com.study.demo.testplayground.global.entity.IdGeneration;
+import com.study.demo.testplayground.global.jdbc.TableIdAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단기 예보 원시 데이터 저장 비교 (rows/sec): 행 단위 IDENTITY INSERT vs 다중 행 upsert
+ * 실행: ./gradlew jmh -PjmhIncludes=RawForecastUpsertBenchmark
+ *
+ * MySQL 8.0.19+ 필요. 접속 정보는 시스템 프로퍼티로 지정하며(bench.jdbc.url, bench.jdbc.user, bench.jdbc.password)
+ * 지정한 스키마에 raw_short_term_weather, id_generator 테이블을 만들어 사용하므로 운영 스키마를 가리키지 않아야 한다.
+ *
+ * 기존 방식은 save() 한 번마다 INSERT 후 생성 키를 읽던 IDENTITY 저장과 같은 왕복을 재현한다.
+ * 매 호출마다 발표일을 바꿔 신규 삽입을 측정하고, upsertExisting은 같은 발표분을 다시 저장하는 경우를 측정한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(RawForecastUpsertBenchmark.ROWS_PER_REGION)
+@State(Scope.Benchmark)
+public class RawForecastUpsertBenchmark {
+
+    // 지역 하나의 단기 예보 시각별 행 수 (3일 × 24시간)
+    static final int ROWS_PER_REGION = 72;
+
+    private static final String LEGACY_INSERT_SQL = "INSERT INTO raw_short_term_weather " +
+            "(region_id, base_date, base_time, fcst_date, fcst_time, tmp, sky, pop, pty, pcp, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private RawShortTermWeatherRepositoryImpl repository;
+    private Region region;
+    private LocalDate nextBaseDate;
+    private List<RawShortTermWeather> existingRows;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("bench.jdbc.url", "jdbc:mysql://localhost:3306/weather_bench"),
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", ""),
+                true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS raw_short_term_weather");
+        jdbcTemplate.execute("CREATE TABLE raw_short_term_weather (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "region_id BIGINT NOT NULL, " +
+                "base_date DATE NOT NULL, base_time VARCHAR(255) NOT NULL, " +
+                "fcst_date DATE NOT NULL, fcst_time VARCHAR(255) NOT NULL, " +
+                "tmp DOUBLE NOT NULL, sky VARCHAR(255) NOT NULL, pop DOUBLE NOT NULL, " +
+                "pty VARCHAR(255) NOT NULL, pcp DOUBLE NOT NULL, " +
+                "created_at DATETIME(6), updated_at DATETIME(6), " +
+                "CONSTRAINT uk_raw_short_term_weather_forecast " +
+                "UNIQUE (region_id, base_date, base_time, fcst_date, fcst_time))");
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + IdGeneration.TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + IdGeneration.TABLE + " (" +
+                IdGeneration.PK_COLUMN + " VARCHAR(255) PRIMARY KEY, " + IdGeneration.VALUE_COLUMN + " BIGINT)");
+
+        TableIdAllocator idAllocator = new TableIdAllocator(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+        repository = new RawShortTermWeatherRepositoryImpl(jdbcTemplate, idAllocator, 500);
+        region = Region.builder().id(1L).build();
+        nextBaseDate = LocalDate.of(2000, 1, 1);
+
+        existingRows = rows(LocalDate.of(1999, 1, 1));
+        repository.upsertAll(existingRows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS raw_short_term_weather");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + IdGeneration.TABLE);
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public int legacyRowByRow() {
+        List<RawShortTermWeather> rows = rows(nextBaseDate());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (RawShortTermWeather row : rows) {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(LEGACY_INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, row.getRegion().getId());
+                ps.setObject(2, row.getBaseDate());
+                ps.setString(3, row.getBaseTime());
+                ps.setObject(4, row.getFcstDate());
+                ps.setString(5, row.getFcstTime());
+                ps.setDouble(6, row.getTmp());
+                ps.setString(7, row.getSky());
+                ps.setDouble(8, row.getPop());
+                ps.setString(9, row.getPty());
+                ps.setDouble(10, row.getPcp());
+                ps.setObject(11, now);
+                ps.setObject(12, now);
+                return ps;
+            }, new GeneratedKeyHolder());
+        }
+        return rows.size();
+    }
+
+    @Benchmark
+    public int upsertNew() {
+        return repository.upsertAll(rows(nextBaseDate()));
+    }
+
+    @Benchmark
+    public int upsertExisting() {
+        return repository.upsertAll(existingRows);
+    }
+
+    // 호출마다 다른 발표일을 사용하여 항상 신규 행이 되도록 함
+    private LocalDate nextBaseDate() {
+        LocalDate baseDate = nextBaseDate;
+        nextBaseDate = nextBaseDate.plusDays(1);
+        return baseDate;
+    }
+
+    private List<RawShortTermWeather> rows(LocalDate baseDate) {
+        List<RawShortTermWeather> rows = new ArrayList<>(ROWS_PER_REGION);
+
+        for (int hour = 0; hour < ROWS_PER_REGION; hour++) {
+            rows.add(RawShortTermWeather.builder()
+                    .region(region)
+                    .baseDate(baseDate)
+                    .baseTime("0500")
+                    .fcstDate(baseDate.plusDays(hour / 24))
+                    .fcstTime(String.format("%02d00", hour % 24))
+                    .tmp(20.0 + hour % 7)
+                    .sky(hour % 3 == 0 ? "흐림" : "맑음")
+                    .pop(10.0 * (hour % 5))
+                    .pty("없음")
+                    .pcp(0.0)
+                    .build());
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,162 @@
+package com.study.demo.testplayground.global.entity;
+
+import com.study.demo.testplayground.domain.comment.entity.Comment;
+import com.study.demo.testplayground.domain.post.entity.Post;
+import com.study.demo.testplayground.domain.weather.entity.*;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Hibernate INSERT 왕복 횟수 비교: 배치 미사용(batchSize=1) vs JDBC 배치(batchSize=100)
+ * 실행: ./gradlew jmh -PjmhIncludes=HibernateBatchInsertBenchmark
+ *
+ * 엔티티는 pooled-lo 테이블 ID를 사용하므로 배치 여부만 바꿔 비교한다. batchSize=1은 IDENTITY 시절처럼
+ * INSERT를 한 건씩 보내는 경우와 같은 왕복 수이며, roundTrips 보조 지표에 세션이 실행한 문장·배치 수를 집계한다.
+ * (ID 구간 할당은 별도 연결에서 100건당 한 번 실행되어 집계에서 제외)
+ *
+ * MySQL 필요. 접속 정보는 시스템 프로퍼티로 지정하며(bench.jdbc.url, bench.jdbc.user, bench.jdbc.password)
+ * 스키마를 create-drop으로 만들고 지우므로 운영 스키마를 가리키지 않아야 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HibernateBatchInsertBenchmark {
+
+    private static final int FORECAST_ROWS = 5000;
+    private static final int POSTS = 50;
+    private static final int COMMENTS_PER_POST = 100;
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            Region.class, RawShortTermWeather.class, RawMediumTermWeather.class, DailyRecommendation.class,
+            WeatherTemplate.class, Keyword.class, TemplateKeyword.class, IngestionDeadLetter.class,
+            Post.class, Comment.class);
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    private SessionFactory sessionFactory;
+    private Region region;
+    private LocalDate nextBaseDate;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+
+        public long roundTrips;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            roundTrips = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Configuration configuration = new Configuration();
+        ENTITIES.forEach(configuration::addAnnotatedClass);
+
+        configuration.setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                System.getProperty("bench.jdbc.url", "jdbc:mysql://localhost:3306/weather_bench"));
+        configuration.setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("bench.jdbc.user", "root"));
+        configuration.setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("bench.jdbc.password", ""));
+        configuration.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        configuration.setProperty(AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                CamelCaseToUnderscoresNamingStrategy.class.getName());
+        configuration.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize));
+        configuration.setProperty(AvailableSettings.ORDER_INSERTS, "true");
+        configuration.setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+        sessionFactory = configuration.buildSessionFactory();
+
+        region = sessionFactory.fromTransaction(session -> {
+            Region benchRegion = Region.builder()
+                    .name("벤치마크")
+                    .latitude(new BigDecimal("37.566500"))
+                    .longitude(new BigDecimal("126.978000"))
+                    .gridX(new BigDecimal("60"))
+                    .gridY(new BigDecimal("127"))
+                    .regCode("11B10101")
+                    .build();
+            session.persist(benchRegion);
+            return benchRegion;
+        });
+        nextBaseDate = LocalDate.of(2000, 1, 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public int forecastRows(RoundTrips counter) {
+        LocalDate baseDate = nextBaseDate;
+        nextBaseDate = nextBaseDate.plusDays(1);
+
+        return inTransaction(counter, session -> {
+            Region regionRef = session.getReference(Region.class, region.getId());
+
+            for (int i = 0; i < FORECAST_ROWS; i++) {
+                session.persist(RawShortTermWeather.builder()
+                        .region(regionRef)
+                        .baseDate(baseDate)
+                        .baseTime(String.format("%04d", i / 24))
+                        .fcstDate(baseDate.plusDays(i / 24 % 3))
+                        .fcstTime(String.format("%02d00", i % 24))
+                        .tmp(20.0 + i % 7)
+                        .sky("맑음")
+                        .pop(10.0 * (i % 5))
+                        .pty("없음")
+                        .pcp(0.0)
+                        .build());
+            }
+            return FORECAST_ROWS;
+        });
+    }
+
+    @Benchmark
+    public int commentRows(RoundTrips counter) {
+        return inTransaction(counter, session -> {
+            for (int p = 0; p < POSTS; p++) {
+                Post post = Post.builder().content("post " + p).build();
+                session.persist(post);
+
+                for (int c = 0; c < COMMENTS_PER_POST; c++) {
+                    session.persist(Comment.builder().post(post).content("comment " + c).build());
+                }
+            }
+            return POSTS * (COMMENTS_PER_POST + 1);
+        });
+    }
+
+    private int inTransaction(RoundTrips counter, Function<Session, Integer> work) {
+        try (Session session = sessionFactory.openSession()) {
+            session.addEventListeners(new SessionEventListener() {
+                @Override
+                public void jdbcExecuteStatementStart() {
+                    counter.roundTrips++;
+                }
+
+                @Override
+                public void jdbcExecuteBatchStart() {
+                    counter.roundTrips++;
+                }
+            });
+
+            session.beginTransaction();
+            int rows = work.apply(session);
+            session.getTransaction().commit();
+            return rows;
+        }
+    }
+}
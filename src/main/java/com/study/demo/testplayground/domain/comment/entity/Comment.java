@@ -1,6 +1,7 @@
 package com.study.demo.testplayground.domain.comment.entity;
 
 import com.study.demo.testplayground.domain.post.entity.Post;
+import com.study.demo.testplayground.global.entity.IdGeneration;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,10 @@ import lombok.*;
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+    @TableGenerator(name = "comment_id_generator", table = IdGeneration.TABLE,
+            pkColumnName = IdGeneration.PK_COLUMN, valueColumnName = IdGeneration.VALUE_COLUMN,
+            pkColumnValue = "comment", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,7 @@
 package com.study.demo.testplayground.domain.post.entity;
 
 import com.study.demo.testplayground.domain.comment.entity.Comment;
+import com.study.demo.testplayground.global.entity.IdGeneration;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +17,10 @@ import java.util.List;
 public class Post {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id_generator")
+    @TableGenerator(name = "post_id_generator", table = IdGeneration.TABLE,
+            pkColumnName = IdGeneration.PK_COLUMN, valueColumnName = IdGeneration.VALUE_COLUMN,
+            pkColumnValue = "post", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "content", nullable = false)
@@ -0,0 +1,248 @@
+package com.study.demo.testplayground.domain.weather.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * KMA API 호출 동시성 제한기 (AIMD)
+ * 응답이 정상 지연 시간 안에 오는 동안은 동시 호출 한도를 한 주기에 1씩 늘리고,
+ * 오류(타임아웃, 429, 5xx)나 지연 급증이 관측되면 한도를 backoff-ratio배로 줄인다.
+ * 한도를 넘는 호출은 대기열에서 기다리며, 대기열이 가득 차면 즉시 실패한다.
+ *
+ * 지표: kma.client.limit(현재 한도), kma.client.in-flight(진행 중 호출), kma.client.queue(대기 중 호출)
+ */
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long maxLatencyNanos;
+
+    private final Object lock = new Object();
+    private final Deque<Permit> waiters = new ArrayDeque<>();
+
+    // lock으로 보호
+    private double limit;
+    private int inFlight;
+    private double baselineLatencyNanos;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${kma.limiter.initial-limit:8}") int initialLimit,
+            @Value("${kma.limiter.min-limit:2}") int minLimit,
+            @Value("${kma.limiter.max-limit:32}") int maxLimit,
+            @Value("${kma.limiter.max-queue:1000}") int maxQueue,
+            @Value("${kma.limiter.backoff-ratio:0.7}") double backoffRatio,
+            @Value("${kma.limiter.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${kma.limiter.max-latency:PT5S}") Duration maxLatency) {
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.lastDecreaseNanos = System.nanoTime() - maxLatencyNanos;
+
+        Gauge.builder("kma.client.limit", this, AdaptiveConcurrencyLimiter::currentLimit)
+                .description("KMA API 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("kma.client.in-flight", this, AdaptiveConcurrencyLimiter::inFlight)
+                .description("진행 중인 KMA API 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("kma.client.queue", this, AdaptiveConcurrencyLimiter::queueDepth)
+                .description("한도 초과로 대기 중인 KMA API 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출을 한도 안에서 실행 (구독 시 허가를 얻은 뒤 호출을 구독하고, 완료·오류·취소 시 반납)
+     */
+    public <T> Mono<T> limit(Mono<T> call) {
+        return limit(call, () -> {
+        });
+    }
+
+    /**
+     * 호출을 한도 안에서 실행하고, 허가를 얻은 직후 onAcquired 실행 (대기열 대기가 끝난 시점을 알아야 하는 헤징용)
+     */
+    public <T> Mono<T> limit(Mono<T> call, Runnable onAcquired) {
+        return Mono.defer(() -> {
+            Permit permit = new Permit();
+
+            return permit.acquire()
+                    .then(Mono.defer(() -> {
+                        permit.startNanos = System.nanoTime();
+                        onAcquired.run();
+                        return call;
+                    }))
+                    .doOnSuccess(value -> permit.release(Signal.SUCCESS))
+                    .doOnError(error -> permit.release(KmaErrors.isTransient(error) ? Signal.OVERLOAD : Signal.IGNORE))
+                    .doFinally(signalType -> permit.release(Signal.IGNORE));
+        });
+    }
+
+    public int currentLimit() {
+        synchronized (lock) {
+            return (int) limit;
+        }
+    }
+
+    public int inFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    public int queueDepth() {
+        synchronized (lock) {
+            return waiters.size();
+        }
+    }
+
+    private enum Signal {
+        SUCCESS,    // 지연 시간에 따라 한도 증가 또는 감소
+        OVERLOAD,   // 한도 감소
+        IGNORE      // 한도 유지 (취소, 과부하와 무관한 오류)
+    }
+
+    private enum PermitState {
+        NEW,
+        WAITING,
+        GRANTED,
+        RELEASED
+    }
+
+    private class Permit {
+
+        private PermitState state = PermitState.NEW;    // lock으로 보호
+        private MonoSink<Void> sink;
+        private long startNanos;
+
+        private Mono<Void> acquire() {
+            return Mono.create(sink -> {
+                boolean granted = false;
+                boolean rejected = false;
+
+                synchronized (lock) {
+                    if (state != PermitState.NEW) {
+                        return;
+                    }
+                    if (waiters.isEmpty() && inFlight < (int) limit) {
+                        inFlight++;
+                        state = PermitState.GRANTED;
+                        granted = true;
+                    } else if (waiters.size() >= maxQueue) {
+                        state = PermitState.RELEASED;
+                        rejected = true;
+                    } else {
+                        this.sink = sink;
+                        state = PermitState.WAITING;
+                        waiters.addLast(this);
+                    }
+                }
+
+                if (granted) {
+                    sink.success();
+                } else if (rejected) {
+                    sink.error(new RejectedExecutionException("KMA API 호출 대기열 초과: " + maxQueue));
+                }
+            });
+        }
+
+        private void release(Signal signal) {
+            List<MonoSink<Void>> wakeUps;
+
+            synchronized (lock) {
+                if (state == PermitState.WAITING) {
+                    waiters.remove(this);
+                } else if (state == PermitState.GRANTED) {
+                    inFlight--;
+                    adjustLimit(signal, System.nanoTime() - startNanos);
+                }
+                state = PermitState.RELEASED;
+                wakeUps = grantWaiters();
+            }
+
+            wakeUps.forEach(MonoSink::success);
+        }
+    }
+
+    /**
+     * 한도가 허용하는 만큼 대기 중인 호출에 허가 부여 (lock 안에서 호출, 깨울 sink는 lock 밖에서 완료)
+     */
+    private List<MonoSink<Void>> grantWaiters() {
+        List<MonoSink<Void>> wakeUps = new ArrayList<>();
+
+        while (!waiters.isEmpty() && inFlight < (int) limit) {
+            Permit next = waiters.pollFirst();
+            next.state = PermitState.GRANTED;
+            inFlight++;
+            wakeUps.add(next.sink);
+        }
+        return wakeUps;
+    }
+
+    /**
+     * AIMD 한도 조정 (lock 안에서 호출)
+     */
+    private void adjustLimit(Signal signal, long latencyNanos) {
+        if (signal == Signal.IGNORE) {
+            return;
+        }
+
+        boolean latencySpike = signal == Signal.SUCCESS
+                && (latencyNanos > maxLatencyNanos
+                || (baselineLatencyNanos > 0 && latencyNanos > baselineLatencyNanos * latencyTolerance));
+
+        if (signal == Signal.OVERLOAD || latencySpike) {
+            decrease(signal, latencyNanos);
+            return;
+        }
+
+        // 정상 응답: 기준 지연 시간 갱신 후 한도를 한 주기(한도만큼의 응답)에 1씩 증가
+        baselineLatencyNanos = baselineLatencyNanos == 0
+                ? latencyNanos
+                : baselineLatencyNanos * 0.9 + latencyNanos * 0.1;
+
+        // 한도까지 호출하지 않는 동안은 늘리지 않음 (여유가 있는 상태에서 한도만 커지는 것 방지)
+        if (inFlight + 1 >= (int) limit || !waiters.isEmpty()) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private void decrease(Signal signal, long latencyNanos) {
+        long now = System.nanoTime();
+
+        // 같은 혼잡 구간에서 동시에 실패한 호출들로 한도가 연속해서 줄지 않도록 기준 지연 시간 동안 한 번만 감소
+        long window = baselineLatencyNanos > 0 ? (long) baselineLatencyNanos : maxLatencyNanos;
+        if (now - lastDecreaseNanos < window) {
+            return;
+        }
+        lastDecreaseNanos = now;
+
+        double previous = limit;
+        limit = Math.max(minLimit, limit * backoffRatio);
+        log.warn("KMA API 동시 호출 한도 감소 - {} → {} ({}, 지연: {}ms)",
+                (int) previous, (int) limit, signal == Signal.OVERLOAD ? "오류" : "지연 급증",
+                latencyNanos / 1_000_000);
+    }
+}
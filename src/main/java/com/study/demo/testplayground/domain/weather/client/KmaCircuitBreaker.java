@@ -0,0 +1,198 @@
+package com.study.demo.testplayground.domain.weather.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * KMA API 서킷 브레이커
+ * CLOSED: 최근 window-size개 호출 결과를 보관하고, minimum-calls 이상에서 실패율이 failure-rate-threshold 이상이면 OPEN
+ * OPEN: open-duration 동안 호출하지 않고 KmaCircuitOpenException으로 즉시 실패
+ * HALF_OPEN: half-open-probes개 호출만 허용하여 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *
+ * 실패로 집계하는 오류는 KmaErrors.isTransient와 같다 (4xx 등은 업스트림 장애로 보지 않음).
+ * 지표: kma.client.circuit.state (0: CLOSED, 1: HALF_OPEN, 2: OPEN)
+ */
+@Component
+@Slf4j
+public class KmaCircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+
+    private final Object lock = new Object();
+
+    // lock으로 보호
+    private State state = State.CLOSED;
+    private final boolean[] outcomes;   // true: 실패
+    private int next;
+    private int recorded;
+    private int failures;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    public KmaCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${kma.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${kma.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${kma.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${kma.circuit-breaker.open-duration:PT30S}") Duration openDuration,
+            @Value("${kma.circuit-breaker.half-open-probes:3}") int halfOpenProbes) {
+
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenProbes = halfOpenProbes;
+
+        Gauge.builder("kma.client.circuit.state", this, breaker -> breaker.state().ordinal())
+                .description("KMA API 서킷 브레이커 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허용 여부를 구독 시점에 판단하고 결과를 집계
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            State permittedIn = tryAcquire();
+            if (permittedIn == null) {
+                return Mono.error(new KmaCircuitOpenException("KMA API 서킷 브레이커 열림 - 호출 생략"));
+            }
+
+            AtomicBoolean completed = new AtomicBoolean();
+            return call
+                    .doOnSuccess(value -> {
+                        if (completed.compareAndSet(false, true)) {
+                            onResult(permittedIn, false);
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (completed.compareAndSet(false, true)) {
+                            onResult(permittedIn, KmaErrors.isTransient(error));
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (completed.compareAndSet(false, true)) {
+                            onCancel(permittedIn);
+                        }
+                    });
+        });
+    }
+
+    public State state() {
+        synchronized (lock) {
+            return currentState(System.nanoTime());
+        }
+    }
+
+    public boolean isOpen() {
+        return state() == State.OPEN;
+    }
+
+    /**
+     * 호출 허가 (허용하지 않으면 null, 허용하면 허가 시점의 상태)
+     */
+    private State tryAcquire() {
+        synchronized (lock) {
+            State current = currentState(System.nanoTime());
+
+            if (current == State.CLOSED) {
+                return State.CLOSED;
+            }
+            if (current == State.HALF_OPEN && probesInFlight + probesSucceeded < halfOpenProbes) {
+                probesInFlight++;
+                return State.HALF_OPEN;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * OPEN 유지 시간이 지나면 HALF_OPEN으로 전환 (lock 안에서 호출)
+     */
+    private State currentState(long now) {
+        if (state == State.OPEN && now - openedAtNanos >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probesSucceeded = 0;
+            log.info("KMA API 서킷 브레이커 HALF_OPEN - 복구 확인 호출 {}건 허용", halfOpenProbes);
+        }
+        return state;
+    }
+
+    private void onResult(State permittedIn, boolean failed) {
+        synchronized (lock) {
+            if (permittedIn == State.HALF_OPEN) {
+                if (state != State.HALF_OPEN) {
+                    return;
+                }
+                probesInFlight--;
+                if (failed) {
+                    open("복구 확인 호출 실패");
+                } else if (++probesSucceeded >= halfOpenProbes) {
+                    close();
+                }
+                return;
+            }
+
+            if (state != State.CLOSED) {
+                return;
+            }
+            record(failed);
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                open(String.format("실패율 %.0f%% (%d/%d)", 100.0 * failures / recorded, failures, recorded));
+            }
+        }
+    }
+
+    private void onCancel(State permittedIn) {
+        synchronized (lock) {
+            if (permittedIn == State.HALF_OPEN && state == State.HALF_OPEN) {
+                probesInFlight--;
+            }
+        }
+    }
+
+    private void record(boolean failed) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        log.warn("KMA API 서킷 브레이커 OPEN - {}, {}초 동안 호출 차단", reason, Duration.ofNanos(openDurationNanos).toSeconds());
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        log.info("KMA API 서킷 브레이커 CLOSED - 복구 확인");
+    }
+}
@@ -0,0 +1,11 @@
+package com.study.demo.testplayground.domain.weather.client;
+
+/**
+ * KMA API 서킷 브레이커가 열려 있어 호출하지 않고 실패한 경우
+ */
+public class KmaCircuitOpenException extends RuntimeException {
+
+    public KmaCircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,28 @@
+package com.study.demo.testplayground.domain.weather.client;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * KMA API 호출 오류 분류
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class KmaErrors {
+
+    /**
+     * 다시 호출하면 성공할 수 있는 일시적 오류 (429, 5xx, 연결 실패·타임아웃)
+     * 업스트림 과부하 신호로도 사용한다.
+     */
+    public static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                    || responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+}
@@ -0,0 +1,39 @@
+package com.study.demo.testplayground.domain.weather.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.time.Duration;
+
+/**
+ * KMA API 일시적 오류 재시도 정책 (지수 백오프 + 지터)
+ * 재시도마다 AdaptiveConcurrencyLimiter 허가를 다시 얻도록 제한기 바깥에 적용한다.
+ */
+@Component
+@Slf4j
+public class KmaRetryPolicy {
+
+    private final RetryBackoffSpec spec;
+
+    public KmaRetryPolicy(
+            @Value("${kma.retry.max-attempts:3}") int maxAttempts,
+            @Value("${kma.retry.min-backoff:PT0.5S}") Duration minBackoff,
+            @Value("${kma.retry.max-backoff:PT8S}") Duration maxBackoff,
+            @Value("${kma.retry.jitter:0.5}") double jitter) {
+
+        this.spec = Retry.backoff(maxAttempts, minBackoff)
+                .maxBackoff(maxBackoff)
+                .jitter(jitter)
+                .filter(KmaErrors::isTransient)
+                .doBeforeRetry(signal -> log.warn("KMA API 일시적 오류, 재시도 {}회차: {}",
+                        signal.totalRetries() + 1, signal.failure().getMessage()))
+                .onRetryExhaustedThrow((retrySpec, signal) -> signal.failure());
+    }
+
+    public Retry spec() {
+        return spec;
+    }
+}
@@ -0,0 +1,54 @@
+package com.study.demo.testplayground.domain.weather.client;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 지연 시간 표본 (고정 크기 링 버퍼)
+ * 백분위수는 정렬된 사본으로 계산하며, 새 표본이 일정 수 쌓일 때만 다시 정렬한다.
+ */
+public class LatencyHistogram {
+
+    private static final int RESORT_INTERVAL = 32;
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    private long[] sorted;
+    private int recordedSinceSort;
+
+    public LatencyHistogram(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+
+        if (++recordedSinceSort >= RESORT_INTERVAL) {
+            sorted = null;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 백분위수 지연 시간 (0 < percentile <= 1, 표본이 없으면 -1)
+     */
+    public synchronized long percentile(double percentile) {
+        if (size == 0) {
+            return -1;
+        }
+        if (sorted == null || sorted.length != size) {
+            sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            recordedSinceSort = 0;
+        }
+
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))];
+    }
+}
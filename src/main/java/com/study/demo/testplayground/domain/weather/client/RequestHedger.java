@@ -0,0 +1,142 @@
+package com.study.demo.testplayground.domain.weather.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * KMA API 요청 헤징
+ * 호출이 최근 지연 시간의 백분위수(kma.hedge.percentile)까지 응답하지 않으면 같은 요청을 한 번 더 보내고
+ * 먼저 도착한 응답을 사용한다. 늦은 쪽은 취소된다.
+ * 원 요청과 헤지 요청 모두 AdaptiveConcurrencyLimiter 안에서 실행하며, 헤지 대기는 원 요청이 허가를 얻은 뒤부터 센다.
+ * 대기열에 기다리는 호출이 있으면(한도 포화) 헤지 요청을 보내지 않는다.
+ *
+ * 추가 호출은 예산(kma.hedge.budget-percent) 안에서만 보낸다:
+ * 원 요청마다 budget-percent/100 토큰이 쌓이고 헤지 요청 하나가 토큰 1개를 쓰므로,
+ * 헤지 요청 수는 원 요청 수의 budget-percent%를 넘지 않는다.
+ *
+ * 지연 시간 표본은 허가를 얻은 뒤 실제 호출 구간만 기록하며, operation(엔드포인트·조회 방식)별로 따로 쌓는다.
+ *
+ * 지표: kma.client.hedge.sent(보낸 헤지 요청), kma.client.hedge.denied(예산 부족 또는 한도 포화로 생략)
+ */
+@Component
+@Slf4j
+public class RequestHedger {
+
+    private static final int HISTOGRAM_CAPACITY = 1024;
+    private static final double MAX_BUDGET_TOKENS = 10.0;
+
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final boolean enabled;
+    private final double percentile;
+    private final double budgetPerRequest;
+    private final int minSamples;
+    private final long minDelayNanos;
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Counter hedgeSent;
+    private final Counter hedgeDenied;
+
+    private final Object budgetLock = new Object();
+    private double budgetTokens;    // budgetLock으로 보호
+
+    public RequestHedger(
+            MeterRegistry meterRegistry,
+            AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+            @Value("${kma.hedge.enabled:false}") boolean enabled,
+            @Value("${kma.hedge.percentile:0.95}") double percentile,
+            @Value("${kma.hedge.budget-percent:5}") double budgetPercent,
+            @Value("${kma.hedge.min-samples:50}") int minSamples,
+            @Value("${kma.hedge.min-delay:PT0.05S}") Duration minDelay) {
+
+        this.adaptiveConcurrencyLimiter = adaptiveConcurrencyLimiter;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.budgetPerRequest = budgetPercent / 100.0;
+        this.minSamples = minSamples;
+        this.minDelayNanos = minDelay.toNanos();
+
+        this.hedgeSent = Counter.builder("kma.client.hedge.sent")
+                .description("보낸 KMA API 헤지 요청 수")
+                .register(meterRegistry);
+        this.hedgeDenied = Counter.builder("kma.client.hedge.denied")
+                .description("예산 부족 또는 한도 포화로 보내지 않은 KMA API 헤지 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 동시성 한도 안에서 실행 (헤징 비활성화 또는 표본 부족 시 헤지 없이 실행)
+     * call은 구독할 때마다 새 요청을 보내야 한다.
+     */
+    public <T> Mono<T> hedge(String operation, Mono<T> call) {
+        LatencyHistogram histogram = histogram(operation);
+        Mono<T> timedCall = timed(histogram, call);
+
+        return Mono.defer(() -> {
+            if (!enabled || histogram.size() < minSamples) {
+                return adaptiveConcurrencyLimiter.limit(timedCall);
+            }
+
+            depositBudget();
+            Duration hedgeDelay = Duration.ofNanos(Math.max(histogram.percentile(percentile), minDelayNanos));
+
+            // 헤지 대기는 원 요청이 허가를 얻은 시점부터 시작 (대기열 대기 시간은 표본에도 헤지 대기에도 포함하지 않음)
+            Sinks.Empty<Void> acquired = Sinks.empty();
+            Mono<T> primary = adaptiveConcurrencyLimiter.limit(timedCall, acquired::tryEmitEmpty);
+
+            // 헤지 요청은 한도에 여유가 있고 예산이 있을 때만 보내고, 실패하면 원 요청 결과를 기다림
+            Mono<T> hedged = acquired.asMono()
+                    .then(Mono.delay(hedgeDelay))
+                    .then(Mono.defer(() -> {
+                        if (adaptiveConcurrencyLimiter.queueDepth() > 0 || !tryWithdrawBudget()) {
+                            hedgeDenied.increment();
+                            return Mono.<T>never();
+                        }
+                        hedgeSent.increment();
+                        log.debug("KMA API 헤지 요청 - {}, 대기: {}ms", operation, hedgeDelay.toMillis());
+                        return adaptiveConcurrencyLimiter.limit(timedCall)
+                                .onErrorResume(error -> Mono.never());
+                    }));
+
+            return Mono.firstWithSignal(primary, hedged);
+        });
+    }
+
+    /**
+     * 호출의 응답 지연 시간을 표본으로 기록 (구독 시점부터 측정하므로 동시성 제한 안쪽에서 구독)
+     */
+    private static <T> Mono<T> timed(LatencyHistogram histogram, Mono<T> call) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return call.doOnSuccess(value -> histogram.record(System.nanoTime() - startNanos));
+        });
+    }
+
+    private LatencyHistogram histogram(String operation) {
+        return histograms.computeIfAbsent(operation, key -> new LatencyHistogram(HISTOGRAM_CAPACITY));
+    }
+
+    private void depositBudget() {
+        synchronized (budgetLock) {
+            budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + budgetPerRequest);
+        }
+    }
+
+    private boolean tryWithdrawBudget() {
+        synchronized (budgetLock) {
+            if (budgetTokens < 1.0) {
+                return false;
+            }
+            budgetTokens -= 1.0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.study.demo.testplayground.domain.weather.controller;
+
+import com.study.demo.testplayground.domain.weather.parser.ContentFingerprint;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화한 JSON 응답 본문 (원본·gzip 바이트, 강한 ETag, Last-Modified)
+ * 같은 내용을 반복해서 보내는 조회 API에서 Jackson 직렬화 없이 바이트를 그대로 내보내고, 조건부 GET에는 304로 응답한다.
+ * ETag는 본문 내용 지문이며, gzip 본문은 다른 표현이므로 별도 ETag("...-gzip")를 사용한다.
+ */
+public final class SerializedResponse {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+    private final Instant lastModified;     // null이면 Last-Modified 생략
+
+    private SerializedResponse(byte[] json, byte[] gzip, String etag, Instant lastModified) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = "\"" + etag + "\"";
+        this.gzipEtag = "\"" + etag + "-gzip\"";
+        this.lastModified = lastModified;
+    }
+
+    public static SerializedResponse of(byte[] json, Instant lastModified) {
+        return new SerializedResponse(
+                json, gzip(json), Long.toHexString(ContentFingerprint.of(json)), lastModified);
+    }
+
+    /**
+     * 요청의 Accept-Encoding에 맞는 본문으로 응답 (If-None-Match/If-Modified-Since가 일치하면 본문 없이 304)
+     */
+    public ResponseEntity<byte[]> toResponseEntity(WebRequest request) {
+        boolean useGzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String variantEtag = useGzip ? gzipEtag : etag;
+
+        if (request.checkNotModified(variantEtag, lastModified != null ? lastModified.toEpochMilli() : -1)) {
+            return withHeaders(ResponseEntity.status(HttpStatus.NOT_MODIFIED), variantEtag).build();
+        }
+
+        ResponseEntity.BodyBuilder builder = withHeaders(ResponseEntity.ok(), variantEtag)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (useGzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+        }
+        return builder.body(json);
+    }
+
+    private ResponseEntity.BodyBuilder withHeaders(ResponseEntity.BodyBuilder builder, String variantEtag) {
+        builder.eTag(variantEtag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
+    }
+
+    /**
+     * Accept-Encoding에 gzip이 있고 q=0으로 거부하지 않았는지 여부
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                if (parts[i].replace(" ", "").matches("q=0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
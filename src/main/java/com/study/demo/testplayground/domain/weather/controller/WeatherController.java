@@ -2,8 +2,12 @@ package com.study.demo.testplayground.domain.weather.controller;
 
 import com.study.demo.testplayground.domain.weather.dto.request.WeatherReqDTO;
 import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import com.study.demo.testplayground.domain.weather.entity.enums.ForecastProduct;
 import com.study.demo.testplayground.domain.weather.service.WeatherScheduler;
+import com.study.demo.testplayground.domain.weather.service.query.RecommendationReadModel;
 import com.study.demo.testplayground.domain.weather.service.query.WeatherQueryService;
+import com.study.demo.testplayground.domain.weather.service.retention.ForecastPartitionManager;
+import com.study.demo.testplayground.domain.weather.service.template.WeatherTemplateRegistry;
 import com.study.demo.testplayground.global.apiPayload.CustomResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,8 +17,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/weather")
@@ -25,6 +28,10 @@ public class WeatherController {
 
     private final WeatherQueryService weatherQueryService;
     private final WeatherScheduler weatherScheduler;
+    private final WeatherTemplateRegistry weatherTemplateRegistry;
+    private final RecommendationReadModel recommendationReadModel;
+    private final WeatherResponseCache weatherResponseCache;
+    private final ForecastPartitionManager forecastPartitionManager;
 
     @GetMapping("/daily/{regionId}")
     @Operation(summary = "일일 날씨 추천 조회", description = "특정 지역의 특정 날짜 날씨 추천 정보를 조회합니다.")
@@ -44,17 +51,17 @@ public class WeatherController {
     }
 
     @GetMapping("/weekly/{regionId}")
-    @Operation(summary = "주간 날씨 추천 조회", description = "특정 지역의 7일간 날씨 추천 정보를 조회합니다.")
-    public ResponseEntity<CustomResponse<WeatherResDTO.WeeklyRecommendations>> getWeeklyRecommendations(
+    @Operation(summary = "주간 날씨 추천 조회",
+            description = "특정 지역의 7일간 날씨 추천 정보를 조회합니다. ETag/Last-Modified 조건부 요청과 gzip 응답을 지원합니다.")
+    public ResponseEntity<byte[]> getWeeklyRecommendations(
             @Parameter(description = "지역 ID", required = true, example = "1")
-            @PathVariable Long regionId) {
+            @PathVariable Long regionId,
+            WebRequest request) {
 
         log.info("주간 날씨 추천 조회 API 호출 - 지역 ID: {}", regionId);
 
-        WeatherResDTO.WeeklyRecommendations recommendations =
-                weatherQueryService.getWeeklyRecommendations(regionId);
-
-        return ResponseEntity.ok(CustomResponse.onSuccess(recommendations));
+        return weatherResponseCache.weekly(regionId, () -> weatherQueryService.getWeeklyRecommendations(regionId))
+                .toResponseEntity(request);
     }
 
     @PostMapping("/coordinate")
@@ -72,15 +79,14 @@ public class WeatherController {
     }
 
     @GetMapping("/today/summary")
-    @Operation(summary = "오늘 날씨 요약", description = "모든 지역의 오늘 날씨 요약 정보를 조회합니다.")
-    public ResponseEntity<CustomResponse<List<WeatherResDTO.DailyRecommendationInfo>>> getTodayWeatherSummary() {
+    @Operation(summary = "오늘 날씨 요약",
+            description = "모든 지역의 오늘 날씨 요약 정보를 조회합니다. ETag/Last-Modified 조건부 요청과 gzip 응답을 지원합니다.")
+    public ResponseEntity<byte[]> getTodayWeatherSummary(WebRequest request) {
 
         log.info("오늘 날씨 요약 조회 API 호출");
 
-        List<WeatherResDTO.DailyRecommendationInfo> summaries =
-                weatherQueryService.getTodayWeatherSummary();
-
-        return ResponseEntity.ok(CustomResponse.onSuccess(summaries));
+        return weatherResponseCache.todaySummary(weatherQueryService::getTodayWeatherSummary)
+                .toResponseEntity(request);
     }
 
     @GetMapping("/statistics/{regionId}")
@@ -134,6 +140,59 @@ public class WeatherController {
         }
     }
 
+    @PostMapping("/admin/update/dead-letters")
+    @Operation(summary = "[관리자] 수집 실패 지역 재처리", description = "재처리 시각이 된 수집 실패 지역만 다시 수집합니다.")
+    public ResponseEntity<CustomResponse<String>> manualRetryFailedRegions() {
+
+        log.info("[관리자] 수집 실패 지역 재처리 API 호출");
+
+        try {
+            weatherScheduler.manualRetryFailedRegions();
+            return ResponseEntity.ok(CustomResponse.onSuccess("수집 실패 지역 재처리가 완료되었습니다."));
+        } catch (Exception e) {
+            log.error("수집 실패 지역 재처리 실패: {}", e.getMessage());
+            return ResponseEntity.ok(CustomResponse.onFailure("UPDATE_FAILED",
+                    "수집 실패 지역 재처리에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/admin/templates/refresh")
+    @Operation(summary = "[관리자] 날씨 템플릿 다시 로드", description = "템플릿·키워드 변경 후 템플릿 레지스트리와 추천 읽기 모델을 다시 로드합니다.")
+    public ResponseEntity<CustomResponse<String>> refreshWeatherTemplates() {
+
+        log.info("[관리자] 날씨 템플릿 다시 로드 API 호출");
+
+        try {
+            weatherTemplateRegistry.refresh();
+            recommendationReadModel.rebuild();
+            return ResponseEntity.ok(CustomResponse.onSuccess("날씨 템플릿을 다시 로드했습니다."));
+        } catch (Exception e) {
+            log.error("날씨 템플릿 다시 로드 실패: {}", e.getMessage());
+            return ResponseEntity.ok(CustomResponse.onFailure("UPDATE_FAILED",
+                    "날씨 템플릿 다시 로드에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/admin/partitions/convert")
+    @Operation(summary = "[관리자] 원시 예보 테이블 파티션 전환",
+            description = "원시 예보 테이블을 일 단위 파티션 테이블로 전환합니다. 외래 키 제거와 테이블 재작성이 일어나는 일회성 작업입니다.")
+    public ResponseEntity<CustomResponse<String>> convertForecastPartitions(
+            @Parameter(description = "예보 종류", required = true, example = "SHORT_TERM")
+            @RequestParam ForecastProduct product) {
+
+        log.info("[관리자] 원시 예보 테이블 파티션 전환 API 호출 - {}", product);
+
+        try {
+            int partitions = forecastPartitionManager.convert(product);
+            return ResponseEntity.ok(CustomResponse.onSuccess(
+                    "파티션 전환이 완료되었습니다. (" + partitions + "개)"));
+        } catch (Exception e) {
+            log.error("파티션 전환 실패: {}", e.getMessage());
+            return ResponseEntity.ok(CustomResponse.onFailure("PARTITION_FAILED",
+                    "파티션 전환에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/health")
     @Operation(summary = "날씨 서비스 상태 확인", description = "날씨 서비스의 상태를 확인합니다.")
     public ResponseEntity<CustomResponse<String>> healthCheck() {
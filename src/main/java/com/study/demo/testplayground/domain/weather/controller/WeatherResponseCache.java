@@ -0,0 +1,125 @@
+package com.study.demo.testplayground.domain.weather.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import com.study.demo.testplayground.domain.weather.service.query.RecommendationReadModel;
+import com.study.demo.testplayground.global.apiPayload.CustomResponse;
+import com.study.demo.testplayground.global.apiPayload.code.GeneralErrorCode;
+import com.study.demo.testplayground.global.apiPayload.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 주간 추천·오늘 요약 응답의 직렬화 결과 캐시
+ * 주간 추천은 날짜나 읽기 모델 버전이 바뀌었을 때만, 오늘 요약은 여기에 더해 max-age가 지났을 때도 다시 직렬화한다.
+ * 캐시가 유효하면 조회 서비스를 호출하지 않으므로, 조건부 GET은 읽기 모델에 없는 지역이어도 DB 조회 없이 304로 응답한다.
+ * 주간 추천 캐시는 지역 ID 기준이고, 날짜가 바뀌면 이전 날짜에 직렬화한 항목을 모두 비운다.
+ * Last-Modified는 응답에 포함된 추천 정보의 updatedAt 중 가장 늦은 값이다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class WeatherResponseCache {
+
+    private record WeeklyEntry(LocalDate date, long modelVersion, SerializedResponse response) {
+    }
+
+    private record SummaryEntry(LocalDate date, long modelVersion, long createdNanos, SerializedResponse response) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final RecommendationReadModel recommendationReadModel;
+
+    // 다른 인스턴스의 수집 결과가 요약에 반영되기까지의 최대 지연
+    @Value("${weather.response-cache.summary-max-age:PT5M}")
+    private Duration summaryMaxAge;
+
+    private final Map<Long, WeeklyEntry> weekly = new ConcurrentHashMap<>();
+    private volatile LocalDate weeklyDate = LocalDate.now();
+    private volatile SummaryEntry summary;
+
+    /**
+     * 주간 추천 응답 (같은 날짜·읽기 모델 버전이면 loader를 호출하지 않고 이전에 직렬화한 바이트 재사용)
+     * 버전은 조회 전에 읽어 두므로, 조회 도중 바뀐 내용은 다음 요청에서 다시 직렬화된다.
+     */
+    public SerializedResponse weekly(Long regionId, Supplier<WeatherResDTO.WeeklyRecommendations> loader) {
+        LocalDate today = LocalDate.now();
+        long modelVersion = recommendationReadModel.version();
+        evictPastWeekly(today);
+
+        WeeklyEntry entry = weekly.get(regionId);
+        if (entry != null && entry.date().equals(today) && entry.modelVersion() == modelVersion) {
+            return entry.response();
+        }
+
+        WeatherResDTO.WeeklyRecommendations recommendations = loader.get();
+        SerializedResponse response = serialize(recommendations, recommendations.recommendations());
+        weekly.put(regionId, new WeeklyEntry(today, modelVersion, response));
+        return response;
+    }
+
+    /**
+     * 날짜가 바뀌면 이전 날짜에 직렬화한 주간 응답 제거 (하루에 한 번만 전체 순회)
+     */
+    private void evictPastWeekly(LocalDate today) {
+        if (!weeklyDate.isBefore(today)) {
+            return;
+        }
+        weeklyDate = today;
+        weekly.values().removeIf(entry -> entry.date().isBefore(today));
+    }
+
+    /**
+     * 오늘 요약 응답 (캐시가 유효하면 loader를 호출하지 않아 DB 조회 없음)
+     */
+    public SerializedResponse todaySummary(Supplier<List<WeatherResDTO.DailyRecommendationInfo>> loader) {
+        LocalDate today = LocalDate.now();
+        long modelVersion = recommendationReadModel.version();
+
+        SummaryEntry entry = summary;
+        if (entry != null
+                && entry.date().equals(today)
+                && entry.modelVersion() == modelVersion
+                && System.nanoTime() - entry.createdNanos() < summaryMaxAge.toNanos()) {
+            return entry.response();
+        }
+
+        List<WeatherResDTO.DailyRecommendationInfo> summaries = loader.get();
+        SerializedResponse response = serialize(summaries, summaries);
+        summary = new SummaryEntry(today, modelVersion, System.nanoTime(), response);
+        return response;
+    }
+
+    private SerializedResponse serialize(Object result, List<WeatherResDTO.DailyRecommendationInfo> recommendations) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(CustomResponse.onSuccess(result));
+            return SerializedResponse.of(json, lastModified(recommendations));
+        } catch (JsonProcessingException e) {
+            log.error("응답 직렬화 실패: {}", e.getMessage());
+            throw new CustomException(GeneralErrorCode.INTERNAL_SERVER_ERROR_500);
+        }
+    }
+
+    private Instant lastModified(List<WeatherResDTO.DailyRecommendationInfo> recommendations) {
+        return recommendations.stream()
+                .map(WeatherResDTO.DailyRecommendationInfo::updatedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .map(updatedAt -> updatedAt.atZone(ZoneId.systemDefault()).toInstant())
+                .orElse(null);
+    }
+}
@@ -0,0 +1,102 @@
+package com.study.demo.testplayground.domain.weather.converter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 위경도 ↔ 기상청 동네예보 격자(nx, ny) 변환
+ * 기상청 공개 Lambert Conformal Conic 투영 상수를 사용한다.
+ * (지구 반경 6371.00877km, 격자 간격 5km, 표준위도 30°/60°, 기준점 38°N 126°E → 격자 (43, 136))
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class KmaGridConverter {
+
+    private static final double EARTH_RADIUS_KM = 6371.00877;
+    private static final double GRID_KM = 5.0;
+    private static final double STANDARD_LAT1 = 30.0;
+    private static final double STANDARD_LAT2 = 60.0;
+    private static final double ORIGIN_LON = 126.0;
+    private static final double ORIGIN_LAT = 38.0;
+    private static final double ORIGIN_X = 43;
+    private static final double ORIGIN_Y = 136;
+
+    private static final double DEG_TO_RAD = Math.PI / 180.0;
+    private static final double RAD_TO_DEG = 180.0 / Math.PI;
+
+    // 투영 계수 (한 번만 계산)
+    private static final double RE = EARTH_RADIUS_KM / GRID_KM;
+    private static final double OLON = ORIGIN_LON * DEG_TO_RAD;
+    private static final double SN;
+    private static final double SF;
+    private static final double RO;
+
+    static {
+        double slat1 = STANDARD_LAT1 * DEG_TO_RAD;
+        double slat2 = STANDARD_LAT2 * DEG_TO_RAD;
+        double olat = ORIGIN_LAT * DEG_TO_RAD;
+
+        double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        SN = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
+
+        double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        SF = Math.pow(sf, SN) * Math.cos(slat1) / SN;
+
+        double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
+        RO = RE * SF / Math.pow(ro, SN);
+    }
+
+    public record GridPoint(int nx, int ny) {
+    }
+
+    public record LatLon(double lat, double lon) {
+    }
+
+    /**
+     * 위경도 → 격자 좌표
+     */
+    public static GridPoint toGrid(double lat, double lon) {
+        double ra = Math.tan(Math.PI * 0.25 + lat * DEG_TO_RAD * 0.5);
+        ra = RE * SF / Math.pow(ra, SN);
+
+        double theta = lon * DEG_TO_RAD - OLON;
+        if (theta > Math.PI) {
+            theta -= 2.0 * Math.PI;
+        }
+        if (theta < -Math.PI) {
+            theta += 2.0 * Math.PI;
+        }
+        theta *= SN;
+
+        int nx = (int) Math.floor(ra * Math.sin(theta) + ORIGIN_X + 0.5);
+        int ny = (int) Math.floor(RO - ra * Math.cos(theta) + ORIGIN_Y + 0.5);
+        return new GridPoint(nx, ny);
+    }
+
+    /**
+     * 격자 좌표 → 격자 중심 위경도
+     */
+    public static LatLon toLatLon(int nx, int ny) {
+        double xn = nx - ORIGIN_X;
+        double yn = RO - ny + ORIGIN_Y;
+
+        double ra = Math.sqrt(xn * xn + yn * yn);
+        if (SN < 0.0) {
+            ra = -ra;
+        }
+
+        double alat = Math.pow(RE * SF / ra, 1.0 / SN);
+        alat = 2.0 * Math.atan(alat) - Math.PI * 0.5;
+
+        double theta;
+        if (Math.abs(xn) <= 0.0) {
+            theta = 0.0;
+        } else if (Math.abs(yn) <= 0.0) {
+            theta = xn < 0.0 ? -Math.PI * 0.5 : Math.PI * 0.5;
+        } else {
+            theta = Math.atan2(xn, yn);
+        }
+        double alon = theta / SN + OLON;
+
+        return new LatLon(alat * RAD_TO_DEG, alon * RAD_TO_DEG);
+    }
+}
@@ -0,0 +1,64 @@
+package com.study.demo.testplayground.domain.weather.converter;
+
+import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 중기 기온 예보와 육상 예보를 (REG_ID, TM_EF) 기준으로 해시 조인
+ * 육상 예보 지역코드는 기온 예보보다 넓은 단위이므로(예: 11B10101 → 11B00000, 11D10301 → 11D10000)
+ * 같은 REG_ID의 육상 예보가 없으면 상위 지역코드로 조인한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MediumTermForecastJoiner {
+
+    private record JoinKey(String regId, LocalDateTime tmEf) {
+    }
+
+    /**
+     * 조인 결과를 기온 예보 REG_ID별로 묶어 반환 (짝이 되는 육상 예보가 없는 행은 제외)
+     */
+    public static Map<String, List<WeatherResDTO.MediumTermForecastRow>> joinByRegId(
+            List<WeatherResDTO.MediumTermTemperatureItem> tempItems,
+            List<WeatherResDTO.MediumTermLandWeatherItem> landItems) {
+
+        Map<JoinKey, WeatherResDTO.MediumTermLandWeatherItem> landByKey = new HashMap<>(landItems.size() * 2);
+        for (WeatherResDTO.MediumTermLandWeatherItem landItem : landItems) {
+            landByKey.putIfAbsent(new JoinKey(landItem.regId(), landItem.tmEf()), landItem);
+        }
+
+        Map<String, List<WeatherResDTO.MediumTermForecastRow>> rowsByRegId = new HashMap<>();
+        for (WeatherResDTO.MediumTermTemperatureItem tempItem : tempItems) {
+            WeatherResDTO.MediumTermLandWeatherItem landItem = findLandItem(landByKey, tempItem);
+            if (landItem == null) {
+                continue;
+            }
+
+            rowsByRegId.computeIfAbsent(tempItem.regId(), regId -> new ArrayList<>())
+                    .add(new WeatherResDTO.MediumTermForecastRow(tempItem, landItem));
+        }
+        return rowsByRegId;
+    }
+
+    private static WeatherResDTO.MediumTermLandWeatherItem findLandItem(
+            Map<JoinKey, WeatherResDTO.MediumTermLandWeatherItem> landByKey,
+            WeatherResDTO.MediumTermTemperatureItem tempItem) {
+
+        String regId = tempItem.regId();
+        WeatherResDTO.MediumTermLandWeatherItem landItem = landByKey.get(new JoinKey(regId, tempItem.tmEf()));
+
+        if (landItem == null && regId.length() == 8) {
+            landItem = landByKey.get(new JoinKey(regId.substring(0, 4) + "0000", tempItem.tmEf()));
+        }
+        if (landItem == null && regId.length() == 8) {
+            landItem = landByKey.get(new JoinKey(regId.substring(0, 3) + "00000", tempItem.tmEf()));
+        }
+        return landItem;
+    }
+}
@@ -1,17 +1,20 @@
 package com.study.demo.testplayground.domain.weather.converter;
 
+import com.study.demo.testplayground.domain.weather.dto.projection.DailyRecommendationRow;
 import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
 import com.study.demo.testplayground.domain.weather.entity.*;
 import com.study.demo.testplayground.domain.weather.entity.enums.PrecipCategory;
 import com.study.demo.testplayground.domain.weather.entity.enums.TempCategory;
 import com.study.demo.testplayground.domain.weather.entity.enums.WeatherType;
+import com.study.demo.testplayground.domain.weather.parser.ShortTermCategory;
+import com.study.demo.testplayground.domain.weather.parser.ShortTermForecastTable;
+import com.study.demo.testplayground.domain.weather.service.template.WeatherTemplateRegistry;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class WeatherConverter {
@@ -20,26 +23,31 @@ public class WeatherConverter {
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
 
     /**
-     * 단기 예보 API 응답을 RawShortTermWeather 엔티티로 변환
+     * 단기 예보 표를 예보 시각별 RawShortTermWeather 엔티티 목록으로 변환
+     * 기온(TMP)이 없는 시각은 제외하고, 나머지 자료 구분이 없으면 기본값(0, 맑음, 없음)으로 채움
      */
-    public static RawShortTermWeather toRawShortTermWeather(
-            WeatherResDTO.ShortTermWeatherItem item, Region region) {
-
-        LocalDate baseDate = LocalDate.parse(item.baseDate(), DATE_FORMATTER);
-        LocalDate fcstDate = LocalDate.parse(item.fcstDate(), DATE_FORMATTER);
-
-        return RawShortTermWeather.builder()
-                .region(region)
-                .baseDate(baseDate)
-                .baseTime(item.baseTime())
-                .fcstDate(fcstDate)
-                .fcstTime(item.fcstTime())
-                .tmp(Double.parseDouble(item.fcstValue()))
-                .sky(mapSkyCode(item.fcstValue()))
-                .pop(0.0) // 초기값, 다른 item에서 업데이트됨
-                .pty(mapPtyCode(item.fcstValue()))
-                .pcp(0.0) // 초기값, 다른 item에서 업데이트됨
-                .build();
+    public static List<RawShortTermWeather> toRawShortTermWeathers(ShortTermForecastTable table, Region region) {
+        List<RawShortTermWeather> weathers = new ArrayList<>();
+
+        for (int hour = table.firstHour(); hour <= table.lastHour(); hour++) {
+            if (!table.has(hour, ShortTermCategory.TMP)) {
+                continue;
+            }
+
+            weathers.add(RawShortTermWeather.builder()
+                    .region(region)
+                    .baseDate(table.baseDate())
+                    .baseTime(table.baseTime())
+                    .fcstDate(table.fcstDate(hour))
+                    .fcstTime(table.fcstTime(hour))
+                    .tmp(table.value(hour, ShortTermCategory.TMP))
+                    .sky(mapSkyCode((int) table.valueOrDefault(hour, ShortTermCategory.SKY, 1)))
+                    .pop(table.valueOrDefault(hour, ShortTermCategory.POP, 0))
+                    .pty(mapPtyCode((int) table.valueOrDefault(hour, ShortTermCategory.PTY, 0)))
+                    .pcp(table.valueOrDefault(hour, ShortTermCategory.PCP, 0))
+                    .build());
+        }
+        return weathers;
     }
 
     /**
@@ -50,29 +58,22 @@ public class WeatherConverter {
             WeatherResDTO.MediumTermLandWeatherItem landItem,
             Region region) {
 
-        LocalDate tmfc = LocalDate.parse(tempItem.tmFc(), DATE_FORMATTER);
-        LocalDate tmef = LocalDate.parse(tempItem.tmEf(), DATE_FORMATTER);
-
         return RawMediumTermWeather.builder()
                 .region(region)
-                .tmfc(tmfc)
-                .tmef(tmef)
+                .tmfc(tempItem.tmFc())
+                .tmef(tempItem.tmEf().toLocalDate())
                 .sky(landItem.wf3Am())
                 .pop(0.0) // 중기예보에서는 강수확률 정보 없음
-                .minTmp(Double.parseDouble(tempItem.taMin3()))
-                .maxTmp(Double.parseDouble(tempItem.taMax3()))
+                .minTmp((double) tempItem.taMin3())
+                .maxTmp((double) tempItem.taMax3())
                 .build();
     }
 
     /**
-     * 날씨 데이터를 기반으로 WeatherTemplate 생성
+     * (날씨, 기온, 강수) 조합으로 WeatherTemplate 생성
      */
-    public static WeatherTemplate createWeatherTemplate(
-            Double temperature, Double precipitation, String skyCondition) {
-
-        TempCategory tempCategory = determineTempCategory(temperature);
-        PrecipCategory precipCategory = determinePrecipCategory(precipitation);
-        WeatherType weatherType = determineWeatherType(skyCondition);
+    public static WeatherTemplate toWeatherTemplate(
+            WeatherType weatherType, TempCategory tempCategory, PrecipCategory precipCategory) {
 
         return WeatherTemplate.builder()
                 .weather(weatherType)
@@ -84,25 +85,20 @@ public class WeatherConverter {
     }
 
     /**
-     * DailyRecommendation을 응답 DTO로 변환
+     * 일일 추천 행을 응답 DTO로 변환 (템플릿 정보는 WeatherTemplateRegistry에서 조회한 값 사용)
      */
     public static WeatherResDTO.DailyRecommendationInfo toDailyRecommendationInfo(
-            DailyRecommendation dailyRecommendation) {
-
-        WeatherTemplate template = dailyRecommendation.getWeatherTemplate();
-
-        List<String> keywords = template.getTemplateKeywords().stream()
-                .map(tk -> tk.getKeyword().getName())
-                .collect(Collectors.toList());
+            DailyRecommendationRow row, WeatherTemplateRegistry.Template template) {
 
         return WeatherResDTO.DailyRecommendationInfo.builder()
-                .id(dailyRecommendation.getId())
-                .regionName(dailyRecommendation.getRegion().getName())
-                .forecastDate(dailyRecommendation.getForecastDate())
-                .weatherMessage(template.getMessage())
-                .emoji(template.getEmoji())
-                .keywords(keywords)
-                .updatedAt(dailyRecommendation.getUpdatedAt())
+                .id(row.id())
+                .regionName(row.regionName())
+                .forecastDate(row.forecastDate())
+                .weatherMessage(template.message())
+                .emoji(template.emoji())
+                .keywords(template.keywords())
+                .updatedAt(row.updatedAt())
+                .stale(row.stale())
                 .build();
     }
 
@@ -110,11 +106,7 @@ public class WeatherConverter {
      * 주간 추천 정보로 변환
      */
     public static WeatherResDTO.WeeklyRecommendations toWeeklyRecommendations(
-            String regionName, List<DailyRecommendation> recommendations) {
-
-        List<WeatherResDTO.DailyRecommendationInfo> dailyInfos = recommendations.stream()
-                .map(WeatherConverter::toDailyRecommendationInfo)
-                .collect(Collectors.toList());
+            String regionName, List<WeatherResDTO.DailyRecommendationInfo> dailyInfos) {
 
         return WeatherResDTO.WeeklyRecommendations.builder()
                 .regionName(regionName)
@@ -189,11 +181,11 @@ public class WeatherConverter {
     /**
      * 하늘상태 코드를 텍스트로 변환
      */
-    private static String mapSkyCode(String skyCode) {
+    private static String mapSkyCode(int skyCode) {
         return switch (skyCode) {
-            case "1" -> "맑음";
-            case "3" -> "구름많음";
-            case "4" -> "흐림";
+            case 1 -> "맑음";
+            case 3 -> "구름많음";
+            case 4 -> "흐림";
             default -> "흐림";
         };
     }
@@ -201,15 +193,15 @@ public class WeatherConverter {
     /**
      * 강수형태 코드를 텍스트로 변환
      */
-    private static String mapPtyCode(String ptyCode) {
+    private static String mapPtyCode(int ptyCode) {
         return switch (ptyCode) {
-            case "0" -> "없음";
-            case "1" -> "비";
-            case "2" -> "비/눈";
-            case "3" -> "눈";
-            case "5" -> "빗방울";
-            case "6" -> "빗방울눈날림";
-            case "7" -> "눈날림";
+            case 0 -> "없음";
+            case 1 -> "비";
+            case 2 -> "비/눈";
+            case 3 -> "눈";
+            case 5 -> "빗방울";
+            case 6 -> "빗방울눈날림";
+            case 7 -> "눈날림";
             default -> "없음";
         };
     }
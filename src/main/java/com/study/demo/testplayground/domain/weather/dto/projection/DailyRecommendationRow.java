@@ -0,0 +1,19 @@
+package com.study.demo.testplayground.domain.weather.dto.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 추천 조회용 일일 추천 행 (엔티티 대신 필요한 컬럼만 조회)
+ * 템플릿 메시지·이모지·키워드는 templateId로 WeatherTemplateRegistry에서 찾는다.
+ */
+public record DailyRecommendationRow(
+        Long id,
+        Long regionId,
+        String regionName,
+        LocalDate forecastDate,
+        Long templateId,
+        LocalDateTime updatedAt,
+        boolean stale
+) {
+}
@@ -0,0 +1,14 @@
+package com.study.demo.testplayground.domain.weather.dto.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 좌표 기반 지역 탐색용 지역 행
+ */
+public record RegionLocation(
+        Long id,
+        String name,
+        BigDecimal latitude,
+        BigDecimal longitude
+) {
+}
@@ -1,7 +1,9 @@
 package com.study.demo.testplayground.domain.weather.dto.response;
 
+import com.study.demo.testplayground.domain.weather.parser.ShortTermForecastTable;
 import lombok.Builder;
 
+import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,68 +21,36 @@ public class WeatherResDTO {
     ) {
     }
 
+    // 단기 예보 응답 전체 (예보 시각 × 자료 구분 표 + 응답 본문 내용 지문)
     @Builder
-    public record ShortTermWeatherItem(
-            String baseDate,
-            String baseTime,
-            String category,
-            String fcstDate,
-            String fcstTime,
-            String fcstValue,
-            String nx,
-            String ny
+    public record ShortTermForecast(
+            ShortTermForecastTable table,
+            long fingerprint
     ) {
     }
 
-    @Builder
-    public record ShortTermWeatherResponse(
-            Response response
+    // 파싱 전 typ01 응답 본문 (내용 지문이 바뀐 경우에만 파싱)
+    public record Typ01Payload(
+            byte[] body,
+            Charset charset,
+            long fingerprint
     ) {
-        @Builder
-        public record Response(
-                Header header,
-                Body body
-        ) {
-        }
-
-        @Builder
-        public record Header(
-                String resultCode,
-                String resultMsg
-        ) {
-        }
-
-        @Builder
-        public record Body(
-                String dataType,
-                Items items,
-                String pageNo,
-                String numOfRows,
-                String totalCount
-        ) {
-        }
-
-        @Builder
-        public record Items(
-                List<ShortTermWeatherItem> item
-        ) {
-        }
     }
 
     @Builder
     public record MediumTermTemperatureItem(
             String regId,
-            String tmFc,
-            String tmEf,
+            LocalDateTime tmFc,
+            LocalDateTime tmEf,
             String code,
             String stnCode,
             String ctaCode,
-            String taMin3,
-            String taMax3,
-            String taMin3Low,
-            String taMin3High,
-            String taMax3Low,
-            String taMax3High
+            int taMin3,
+            int taMax3,
+            int taMin3Low,
+            int taMin3High,
+            int taMax3Low,
+            int taMax3High
     ) {
     }
 
@@ -119,15 +89,15 @@ public class WeatherResDTO {
     @Builder
     public record MediumTermLandWeatherItem(
             String regId,
-            String tmFc,
-            String tmEf,
+            LocalDateTime tmFc,
+            LocalDateTime tmEf,
             String code,
             String stnCode,
             String ctaCode,
             String wf3Am,
             String wf3Pm,
-            String rnSt3Am,
-            String rnSt3Pm
+            int rnSt3Am,
+            int rnSt3Pm
     ) {
     }
 
@@ -163,6 +133,41 @@ public class WeatherResDTO {
         }
     }
 
+    // 같은 (REG_ID, TM_EF)로 조인된 중기 기온·육상 예보 한 행
+    public record MediumTermForecastRow(
+            MediumTermTemperatureItem temperature,
+            MediumTermLandWeatherItem land
+    ) {
+    }
+
+    // 수집 실행 결과 DTO
+
+    @Builder
+    public record IngestionResult(
+            String runName,
+            int total,
+            int fetches,        // 실제 API 요청 단위 수
+            double dedupRatio,  // 중복 제거로 줄어든 요청 비율 (1 - fetches / total)
+            long succeeded,
+            long failed,
+            long skipped,
+            long unchanged,     // 내용 지문이 같아 저장을 생략한 건수
+            long elapsedMs
+    ) {
+    }
+
+    // 보존 기간 정리 결과 DTO
+    @Builder
+    public record RetentionResult(
+            String target,
+            String strategy,    // chunked-delete 또는 partition-drop
+            long deleted,       // partition-drop은 통계 기반 추정치
+            int chunks,         // 삭제 청크 수 또는 삭제한 파티션 수
+            long elapsedMs,
+            double rowsPerSecond
+    ) {
+    }
+
     // 클라이언트 응답용 DTO들
 
     @Builder
@@ -173,7 +178,8 @@ public class WeatherResDTO {
             String weatherMessage,
             String emoji,
             List<String> keywords,
-            LocalDateTime updatedAt
+            LocalDateTime updatedAt,
+            boolean stale       // KMA 장애로 갱신하지 못한 이전 예보
     ) {
     }
 
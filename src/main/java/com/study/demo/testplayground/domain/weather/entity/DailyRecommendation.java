@@ -1,6 +1,7 @@
 package com.study.demo.testplayground.domain.weather.entity;
 
 import com.study.demo.testplayground.global.entity.BaseEntity;
+import com.study.demo.testplayground.global.entity.IdGeneration;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +17,10 @@ import java.time.LocalDateTime;
 public class DailyRecommendation extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "daily_recommendation_id_generator")
+    @TableGenerator(name = "daily_recommendation_id_generator", table = IdGeneration.TABLE,
+            pkColumnName = IdGeneration.PK_COLUMN, valueColumnName = IdGeneration.VALUE_COLUMN,
+            pkColumnValue = "daily_recommendation", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;   // daily_recommendation_id
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,4 +36,20 @@ public class DailyRecommendation extends BaseEntity {
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private boolean stale;   // KMA 장애로 갱신하지 못해 이전 예보를 유지 중
+
+    /**
+     * 새로 계산한 템플릿 반영 (같은 템플릿이고 stale이 아니면 변경하지 않고 false 반환)
+     */
+    public boolean changeTemplate(WeatherTemplate template, LocalDateTime now) {
+        if (!stale && weatherTemplate.getId().equals(template.getId())) {
+            return false;
+        }
+        this.weatherTemplate = template;
+        this.updatedAt = now;
+        this.stale = false;
+        return true;
+    }
 }
@@ -0,0 +1,54 @@
+package com.study.demo.testplayground.domain.weather.entity;
+
+import com.study.demo.testplayground.domain.weather.entity.enums.ForecastProduct;
+import com.study.demo.testplayground.global.entity.BaseEntity;
+import com.study.demo.testplayground.global.entity.IdGeneration;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ingestion_dead_letter",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_ingestion_dead_letter_region_product",
+                columnNames = {"region_id", "product"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class IngestionDeadLetter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ingestion_dead_letter_id_generator")
+    @TableGenerator(name = "ingestion_dead_letter_id_generator", table = IdGeneration.TABLE,
+            pkColumnName = IdGeneration.PK_COLUMN, valueColumnName = IdGeneration.VALUE_COLUMN,
+            pkColumnValue = "ingestion_dead_letter", allocationSize = IdGeneration.ALLOCATION_SIZE)
+    private Long id;   // ingestion_dead_letter_id
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "region_id", nullable = false)
+    private Region region;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ForecastProduct product;
+
+    @Column(nullable = false)
+    private int attempts;   // 실패 횟수
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 재처리 실패 기록 (실패 횟수 증가, 다음 재처리 시각 갱신)
+     */
+    public void recordFailure(String lastError, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = lastError;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
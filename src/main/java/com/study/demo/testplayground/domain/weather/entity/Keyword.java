@@ -1,13 +1,18 @@
 package com.study.demo.testplayground.domain.weather.entity;
 
 import com.study.demo.testplayground.global.entity.BaseEntity;
+import com.study.demo.testplayground.global.entity.CacheRegions;
+import com.study.demo.testplayground.global.entity.IdGeneration;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.KEYWORD)
 @Table(name = "keyword")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -16,13 +21,17 @@ import java.util.List;
 public class Keyword extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "keyword_id_generator")
+    @TableGenerator(name = "keyword_id_generator", table = IdGeneration.TABLE,
+            pkColumnName = IdGeneration.PK_COLUMN, valueColumnName = IdGeneration.VALUE_COLUMN,
+            pkColumnValue = "keyword", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;   // keyword_id
 
     @Column(nullable = false, unique = true)
     private String name;
 
     @OneToMany(mappedBy = "keyword", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.KEYWORD_TEMPLATES)
     @Builder.Default
     private List<TemplateKeyword> templateKeywords = new ArrayList<>();
 }
@@ -1,13 +1,19 @@
 package com.study.demo.testplayground.domain.weather.entity;
 
 import com.study.demo.testplayground.global.entity.BaseEntity;
+import com.study.demo.testplayground.global.entity.IdGeneration;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "raw_medium_term_weather")
+@Table(name = "raw_medium_term_weather",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_raw_medium_term_weather_forecast",
+                columnNames = {"region_id", "tmfc", "tmef"}),
+        indexes = @Index(name = "idx_raw_medium_term_weather_tmef", columnList = "tmef"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -15,15 +21,19 @@ import java.time.LocalDate;
 public class RawMediumTermWeather extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "raw_medium_term_weather_id_generator")
+    @TableGenerator(name = "raw_medium_term_weather_id_generator", table = IdGeneration.TABLE,
+            pkColumnName = IdGeneration.PK_COLUMN, valueColumnName = IdGeneration.VALUE_COLUMN,
+            pkColumnValue = "raw_medium_term_weather", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;   // raw_medium_term_weather_id
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "region_id", nullable = false)
+    // 일 단위 파티션 테이블은 외래 키를 지원하지 않음 (ForecastPartitionManager)
+    @JoinColumn(name = "region_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Region region;
 
     @Column(nullable = false)
-    private LocalDate tmfc;    // 발표시각
+    private LocalDateTime tmfc;    // 발표시각 (06시·18시 발표분을 구분하도록 시각까지 저장)
 
     @Column(nullable = false)
     private LocalDate tmef;    // 발효시각
@@ -1,13 +1,18 @@
 package com.study.demo.testplayground.domain.weather.entity;
 
 import com.study.demo.testplayground.global.entity.BaseEntity;
+import com.study.demo.testplayground.global.entity.IdGeneration;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "raw_short_term_weather")
+@Table(name = "raw_short_term_weather",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_raw_short_term_weather_forecast",
+                columnNames = {"region_id", "base_date", "base_time", "fcst_date", "fcst_time"}),
+        indexes = @Index(name = "idx_raw_short_term_weather_fcst_date", columnList = "fcst_date"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -15,11 +20,15 @@ import java.time.LocalDate;
 public class RawShortTermWeather extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "raw_short_term_weather_id_generator")
+    @TableGenerator(name = "raw_short_term_weather_id_generator", table = IdGeneration.TABLE,
+            pkColumnName = IdGeneration.PK_COLUMN, valueColumnName = IdGeneration.VALUE_COLUMN,
+            pkColumnValue = "raw_short_term_weather", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;   // raw_short_term_weather_id
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "region_id", nullable = false)
+    // 일 단위 파티션 테이블은 외래 키를 지원하지 않음 (ForecastPartitionManager)
+    @JoinColumn(name = "region_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Region region;
 
     @Column(name = "base_date", nullable = false)
@@ -4,14 +4,23 @@ import com.study.demo.testplayground.domain.weather.entity.enums.PrecipCategory;
 import com.study.demo.testplayground.domain.weather.entity.enums.TempCategory;
 import com.study.demo.testplayground.domain.weather.entity.enums.WeatherType;
 import com.study.demo.testplayground.global.entity.BaseEntity;
+import com.study.demo.testplayground.global.entity.CacheRegions;
+import com.study.demo.testplayground.global.entity.IdGeneration;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "weather_template")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.WEATHER_TEMPLATE)
+@Table(name = "weather_template",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_weather_template_category",
+                columnNames = {"weather", "temp_category", "precip_category"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -19,7 +28,10 @@ import java.util.List;
 public class WeatherTemplate extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "weather_template_id_generator")
+    @TableGenerator(name = "weather_template_id_generator", table = IdGeneration.TABLE,
+            pkColumnName = IdGeneration.PK_COLUMN, valueColumnName = IdGeneration.VALUE_COLUMN,
+            pkColumnValue = "weather_template", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;   // weather_template_id
 
     @Enumerated(EnumType.STRING)
@@ -41,6 +53,8 @@ public class WeatherTemplate extends BaseEntity {
     private String emoji;
 
     @OneToMany(mappedBy = "weatherTemplate", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.WEATHER_TEMPLATE_KEYWORDS)
     @Builder.Default
     private List<TemplateKeyword> templateKeywords = new ArrayList<>();
 }
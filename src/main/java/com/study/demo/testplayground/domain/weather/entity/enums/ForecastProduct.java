@@ -0,0 +1,5 @@
+package com.study.demo.testplayground.domain.weather.entity.enums;
+
+public enum ForecastProduct {
+    SHORT_TERM, MEDIUM_TERM
+}
@@ -0,0 +1,59 @@
+package com.study.demo.testplayground.domain.weather.parser;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * API 응답 본문의 내용 지문 (SHA-256 앞 8바이트)
+ * 이전 수집 결과와 같은 응답인지 판별하는 용도로, 스트리밍 수신 중에도 버퍼 단위로 누적할 수 있다.
+ *
+ * 인스턴스는 스레드 안전하지 않다.
+ */
+public class ContentFingerprint {
+
+    private final MessageDigest digest;
+
+    public ContentFingerprint() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 지원하지 않는 JVM", e);
+        }
+    }
+
+    /**
+     * 바이트 배열 전체의 지문
+     */
+    public static long of(byte[] body) {
+        ContentFingerprint fingerprint = new ContentFingerprint();
+        fingerprint.digest.update(body);
+        return fingerprint.value();
+    }
+
+    /**
+     * 두 지문을 하나로 결합 (순서 구분)
+     */
+    public static long combine(long first, long second) {
+        return first * 31 + second;
+    }
+
+    /**
+     * 버퍼 내용을 누적 (버퍼의 position은 변경하지 않음)
+     */
+    public void update(ByteBuffer buffer) {
+        digest.update(buffer.duplicate());
+    }
+
+    /**
+     * 누적한 내용의 지문 (호출 후 초기화됨)
+     */
+    public long value() {
+        byte[] hash = digest.digest();
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (hash[i] & 0xFF);
+        }
+        return value;
+    }
+}
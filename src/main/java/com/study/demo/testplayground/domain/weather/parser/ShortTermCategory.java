@@ -0,0 +1,44 @@
+package com.study.demo.testplayground.domain.weather.parser;
+
+/**
+ * 단기 예보(getVilageFcst) 자료 구분 코드
+ */
+public enum ShortTermCategory {
+    POP,    // 강수확률 (%)
+    PTY,    // 강수형태 (코드)
+    PCP,    // 1시간 강수량 (범주, mm)
+    REH,    // 습도 (%)
+    SNO,    // 1시간 신적설 (범주, cm)
+    SKY,    // 하늘상태 (코드)
+    TMP,    // 1시간 기온 (℃)
+    TMN,    // 일 최저기온 (℃)
+    TMX,    // 일 최고기온 (℃)
+    UUU,    // 풍속 동서성분 (m/s)
+    VVV,    // 풍속 남북성분 (m/s)
+    WAV,    // 파고 (M)
+    VEC,    // 풍향 (deg)
+    WSD;    // 풍속 (m/s)
+
+    /**
+     * 코드 문자열 → 자료 구분 (알 수 없는 코드는 null)
+     */
+    public static ShortTermCategory of(String code) {
+        return switch (code) {
+            case "POP" -> POP;
+            case "PTY" -> PTY;
+            case "PCP" -> PCP;
+            case "REH" -> REH;
+            case "SNO" -> SNO;
+            case "SKY" -> SKY;
+            case "TMP" -> TMP;
+            case "TMN" -> TMN;
+            case "TMX" -> TMX;
+            case "UUU" -> UUU;
+            case "VVV" -> VVV;
+            case "WAV" -> WAV;
+            case "VEC" -> VEC;
+            case "WSD" -> WSD;
+            default -> null;
+        };
+    }
+}
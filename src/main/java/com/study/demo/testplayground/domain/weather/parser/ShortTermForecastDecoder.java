@@ -0,0 +1,182 @@
+package com.study.demo.testplayground.domain.weather.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 단기 예보(getVilageFcst) JSON 응답을 토큰 단위로 읽어 ShortTermForecastTable을 채우는 스트리밍 디코더
+ * response.body.items.item 배열의 각 원소를 레코드로 만들지 않고, 항목이 완성되는 즉시
+ * (예보 시각, 자료 구분) 칸에 값을 기록하여 한 번의 순회로 시각별 wide 행을 만든다.
+ * 디코딩과 함께 응답 본문의 내용 지문을 누적하여 finish() 이후 fingerprint()로 제공한다.
+ *
+ * 응답 하나당 인스턴스 하나를 사용하며 스레드 안전하지 않다.
+ */
+public class ShortTermForecastDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // 정상 응답, 데이터 없음 응답 코드
+    private static final String RESULT_NORMAL = "00";
+    private static final String RESULT_NO_DATA = "03";
+
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private final ContentFingerprint contentFingerprint = new ContentFingerprint();
+    private long fingerprint;
+    private final ShortTermForecastTable table = new ShortTermForecastTable();
+
+    private int depth;
+    private int itemArrayDepth = -1;
+    private boolean inItem;
+
+    private String resultCode;
+    private String resultMsg;
+
+    // 현재 읽고 있는 item 필드
+    private String baseDate;
+    private String baseTime;
+    private String category;
+    private String fcstDate;
+    private String fcstTime;
+    private String fcstValue;
+
+    public ShortTermForecastDecoder() {
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 수신한 버퍼를 디코딩하여 표에 기록
+     * 버퍼 해제는 호출자 책임
+     */
+    public void feed(DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                ByteBuffer byteBuffer = iterator.next();
+                contentFingerprint.update(byteBuffer);
+                feeder.feedInput(byteBuffer);
+                drain();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 입력 종료 처리 후 완성된 표 반환
+     * 오류 응답 코드(정상/데이터 없음 외)를 받은 경우 예외 발생
+     */
+    public ShortTermForecastTable finish() {
+        try {
+            feeder.endOfInput();
+            fingerprint = contentFingerprint.value();
+            drain();
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (resultCode != null && !RESULT_NORMAL.equals(resultCode) && !RESULT_NO_DATA.equals(resultCode)) {
+            throw new IllegalStateException("단기 예보 API 오류 응답: " + resultCode + " " + resultMsg);
+        }
+        return table;
+    }
+
+    /**
+     * 응답 본문 전체의 내용 지문 (finish() 이후 유효)
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_ARRAY -> {
+                    depth++;
+                    if (itemArrayDepth < 0 && "item".equals(parser.currentName())) {
+                        itemArrayDepth = depth;
+                    }
+                }
+                case END_ARRAY -> {
+                    if (depth == itemArrayDepth) {
+                        itemArrayDepth = -1;
+                    }
+                    depth--;
+                }
+                case START_OBJECT -> {
+                    if (depth == itemArrayDepth) {
+                        inItem = true;
+                    }
+                    depth++;
+                }
+                case END_OBJECT -> {
+                    depth--;
+                    if (inItem && depth == itemArrayDepth) {
+                        inItem = false;
+                        completeItem();
+                    }
+                }
+                case VALUE_STRING, VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> readValue();
+                default -> {
+                    // FIELD_NAME, null, boolean 등은 값 토큰에서 currentName()으로 처리
+                }
+            }
+        }
+    }
+
+    private void readValue() throws IOException {
+        String name = parser.currentName();
+        if (name == null) {
+            return;
+        }
+
+        if (inItem && depth == itemArrayDepth + 1) {
+            switch (name) {
+                case "baseDate" -> baseDate = parser.getText();
+                case "baseTime" -> baseTime = parser.getText();
+                case "category" -> category = parser.getText();
+                case "fcstDate" -> fcstDate = parser.getText();
+                case "fcstTime" -> fcstTime = parser.getText();
+                case "fcstValue" -> fcstValue = parser.getText();
+                default -> {
+                    // nx, ny는 요청 파라미터와 동일하므로 읽지 않음
+                }
+            }
+        } else if ("resultCode".equals(name)) {
+            resultCode = parser.getText();
+        } else if ("resultMsg".equals(name)) {
+            resultMsg = parser.getText();
+        }
+    }
+
+    /**
+     * 완성된 item을 표의 (예보 시각, 자료 구분) 칸에 기록
+     */
+    private void completeItem() {
+        ShortTermCategory itemCategory = category != null ? ShortTermCategory.of(category) : null;
+
+        if (itemCategory != null && baseDate != null && fcstDate != null && fcstTime != null) {
+            table.put(baseDate, baseTime, fcstDate, fcstTime, itemCategory, fcstValue);
+        }
+
+        baseDate = null;
+        baseTime = null;
+        category = null;
+        fcstDate = null;
+        fcstTime = null;
+        fcstValue = null;
+    }
+}
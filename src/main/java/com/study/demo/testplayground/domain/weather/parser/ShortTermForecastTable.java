@@ -0,0 +1,151 @@
+package com.study.demo.testplayground.domain.weather.parser;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 단기 예보 long-format 항목(예보일시 × 자료 구분)을 예보 시각별 wide 행으로 모은 표
+ * 값은 [발표일 기준 시각 인덱스 × 자료 구분] 1차원 double 배열에, 존재 여부는 시각별 비트마스크에 저장한다.
+ * 시각 인덱스는 (예보일 - 발표일) * 24 + 예보 시(hour)이며 발표일로부터 MAX_DAYS일까지 담는다.
+ *
+ * 응답 하나당 인스턴스 하나를 사용하며 스레드 안전하지 않다.
+ */
+public class ShortTermForecastTable {
+
+    public static final int MAX_DAYS = 5;
+    public static final int HOURS_PER_DAY = 24;
+    public static final int MAX_HOURS = MAX_DAYS * HOURS_PER_DAY;
+
+    private static final int CATEGORY_COUNT = ShortTermCategory.values().length;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String[] HOUR_TEXT = new String[HOURS_PER_DAY];
+
+    static {
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            HOUR_TEXT[hour] = String.format("%02d00", hour);
+        }
+    }
+
+    private final double[] values = new double[MAX_HOURS * CATEGORY_COUNT];
+    private final int[] presentMask = new int[MAX_HOURS];
+
+    private LocalDate baseDate;
+    private String baseTime;
+    private int firstHour = MAX_HOURS;
+    private int lastHour = -1;
+
+    // 항목은 예보일 순으로 오므로 직전 예보일의 날짜 차이를 재사용
+    private String lastFcstDate;
+    private int lastDayOffset;
+
+    /**
+     * 항목 하나를 표에 기록 (범위를 벗어나거나 값을 해석할 수 없으면 무시)
+     */
+    public void put(String baseDate, String baseTime, String fcstDate, String fcstTime,
+                    ShortTermCategory category, String value) {
+
+        if (this.baseDate == null) {
+            this.baseDate = LocalDate.parse(baseDate, DATE_FORMATTER);
+            this.baseTime = baseTime;
+        }
+
+        if (!fcstDate.equals(lastFcstDate)) {
+            lastFcstDate = fcstDate;
+            lastDayOffset = (int) ChronoUnit.DAYS.between(this.baseDate, LocalDate.parse(fcstDate, DATE_FORMATTER));
+        }
+
+        int hourOfDay = (fcstTime.charAt(0) - '0') * 10 + (fcstTime.charAt(1) - '0');
+        if (lastDayOffset < 0 || lastDayOffset >= MAX_DAYS || hourOfDay < 0 || hourOfDay >= HOURS_PER_DAY) {
+            return;
+        }
+
+        double parsed = parseValue(category, value);
+        if (Double.isNaN(parsed)) {
+            return;
+        }
+
+        int hour = lastDayOffset * HOURS_PER_DAY + hourOfDay;
+        values[hour * CATEGORY_COUNT + category.ordinal()] = parsed;
+        presentMask[hour] |= 1 << category.ordinal();
+        firstHour = Math.min(firstHour, hour);
+        lastHour = Math.max(lastHour, hour);
+    }
+
+    public boolean isEmpty() {
+        return lastHour < 0;
+    }
+
+    public LocalDate baseDate() {
+        return baseDate;
+    }
+
+    public String baseTime() {
+        return baseTime;
+    }
+
+    /**
+     * 값이 있는 첫 시각 인덱스 (비어 있으면 MAX_HOURS)
+     */
+    public int firstHour() {
+        return firstHour;
+    }
+
+    /**
+     * 값이 있는 마지막 시각 인덱스 (비어 있으면 -1)
+     */
+    public int lastHour() {
+        return lastHour;
+    }
+
+    public boolean has(int hour, ShortTermCategory category) {
+        return (presentMask[hour] & (1 << category.ordinal())) != 0;
+    }
+
+    public double value(int hour, ShortTermCategory category) {
+        return values[hour * CATEGORY_COUNT + category.ordinal()];
+    }
+
+    public double valueOrDefault(int hour, ShortTermCategory category, double defaultValue) {
+        return has(hour, category) ? value(hour, category) : defaultValue;
+    }
+
+    public LocalDate fcstDate(int hour) {
+        return baseDate.plusDays(hour / HOURS_PER_DAY);
+    }
+
+    public String fcstTime(int hour) {
+        return HOUR_TEXT[hour % HOURS_PER_DAY];
+    }
+
+    /**
+     * 예보값 해석 (해석할 수 없으면 NaN)
+     * PCP/SNO는 범주 문자열("강수없음", "1mm 미만", "30.0~50.0mm", "50.0mm 이상")의 앞쪽 수치를 사용하고
+     * 없음·미만은 0으로 본다.
+     */
+    private static double parseValue(ShortTermCategory category, String value) {
+        if (value == null || value.isEmpty()) {
+            return Double.NaN;
+        }
+        if (category == ShortTermCategory.PCP || category == ShortTermCategory.SNO) {
+            return parseAmount(value);
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static double parseAmount(String value) {
+        if (value.contains("없음") || value.contains("미만")) {
+            return 0.0;
+        }
+
+        int end = 0;
+        while (end < value.length() && (Character.isDigit(value.charAt(end)) || value.charAt(end) == '.')) {
+            end++;
+        }
+        return end == 0 ? Double.NaN : Double.parseDouble(value.substring(0, end));
+    }
+}
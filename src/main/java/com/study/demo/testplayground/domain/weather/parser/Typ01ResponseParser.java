@@ -0,0 +1,138 @@
+package com.study.demo.testplayground.domain.weather.parser;
+
+import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * KMA typ01 텍스트 응답(격자 좌표, 중기 기온/육상 예보) 파서
+ * 응답 바이트를 Typ01Scanner로 바로 읽어 필요한 필드만 타입별로 변환한다.
+ * 값을 변환할 수 없는 줄(잘린 날짜, 숫자가 아닌 필드 등)은 응답 전체를 실패시키지 않고 경고를 남긴 뒤 건너뛴다.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class Typ01ResponseParser {
+
+    /**
+     * 격자 좌표 응답 파싱
+     * 응답 형태:
+     * #START7777
+     * #       LON,         LAT,   X,   Y
+     *  126.986069,   37.571712,  60, 127
+     *
+     * 데이터 줄이 없으면 null 반환
+     */
+    public static WeatherResDTO.GridCoordinateResponse parseGridCoordinate(byte[] body, Charset charset) {
+        Typ01Scanner scanner = new Typ01Scanner(body);
+
+        while (scanner.nextRecord()) {
+            if (scanner.fieldCount() >= 4) {
+                return WeatherResDTO.GridCoordinateResponse.builder()
+                        .lon(scanner.text(0, charset))
+                        .lat(scanner.text(1, charset))
+                        .x(scanner.text(2, charset))
+                        .y(scanner.text(3, charset))
+                        .build();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 중기 기온 예보 응답 파싱
+     * 응답 형태:
+     * # REG_ID TM_FC        TM_EF        MOD STN C MIN MAX MIN_L MIN_H MAX_L MAX_H
+     * 11B10101 202507020600 202507060000 A01 109 2  25  31    1    1    1    1
+     */
+    public static List<WeatherResDTO.MediumTermTemperatureItem> parseMediumTermTemperature(
+            byte[] body, Charset charset) {
+
+        List<WeatherResDTO.MediumTermTemperatureItem> items = new ArrayList<>();
+        Typ01Scanner scanner = new Typ01Scanner(body);
+        int skipped = 0;
+
+        while (scanner.nextRecord()) {
+            if (scanner.fieldCount() < 8) {  // 최소 8개 필드 (REG_ID~MAX)까지 있어야 함
+                continue;
+            }
+
+            try {
+                items.add(WeatherResDTO.MediumTermTemperatureItem.builder()
+                        .regId(scanner.text(0, charset))      // REG_ID
+                        .tmFc(scanner.dateTime(1))            // TM_FC
+                        .tmEf(scanner.dateTime(2))            // TM_EF
+                        .code(scanner.text(3, charset))       // MOD
+                        .stnCode(scanner.text(4, charset))    // STN
+                        .ctaCode(scanner.text(5, charset))    // C
+                        .taMin3(scanner.intValue(6, 0))       // MIN (최저기온)
+                        .taMax3(scanner.intValue(7, 0))       // MAX (최고기온)
+                        .taMin3Low(scanner.intValue(8, 1))
+                        .taMin3High(scanner.intValue(9, 1))
+                        .taMax3Low(scanner.intValue(10, 1))
+                        .taMax3High(scanner.intValue(11, 1))
+                        .build());
+            } catch (RuntimeException e) {
+                skipped++;
+                logSkipped("중기 기온 예보", scanner, charset, e);
+            }
+        }
+
+        log.info("중기 기온 예보 파싱 완료 - {}건, 건너뜀 {}건", items.size(), skipped);
+        return items;
+    }
+
+    /**
+     * 중기 육상 예보 응답 파싱
+     * 응답 형태:
+     * # REG_ID TM_FC        TM_EF        MOD STN C SKY  PRE  CONF WF    RN_ST
+     * 11B00000 202507020600 202507060000 A02 109 2 WB04 WB00 없음 "흐림" 40
+     *
+     * WF는 따옴표 안에 공백이 들어갈 수 있으며("구름많고 비") 스캐너가 하나의 필드로 읽는다.
+     */
+    public static List<WeatherResDTO.MediumTermLandWeatherItem> parseMediumTermLandWeather(
+            byte[] body, Charset charset) {
+
+        List<WeatherResDTO.MediumTermLandWeatherItem> items = new ArrayList<>();
+        Typ01Scanner scanner = new Typ01Scanner(body);
+        int skipped = 0;
+
+        while (scanner.nextRecord()) {
+            if (scanner.fieldCount() < 10) {  // 최소 10개 필드 (REG_ID~WF)까지 있어야 함
+                continue;
+            }
+
+            try {
+                String wf = scanner.text(9, charset);
+                int rnSt = scanner.intValue(10, 0);
+
+                items.add(WeatherResDTO.MediumTermLandWeatherItem.builder()
+                        .regId(scanner.text(0, charset))      // REG_ID
+                        .tmFc(scanner.dateTime(1))            // TM_FC
+                        .tmEf(scanner.dateTime(2))            // TM_EF
+                        .code(scanner.text(3, charset))       // MOD
+                        .stnCode(scanner.text(4, charset))    // STN
+                        .ctaCode(scanner.text(5, charset))    // C
+                        .wf3Am(wf)                            // WF (날씨 상태)
+                        .wf3Pm(wf)                            // 오전/오후 동일하게 처리
+                        .rnSt3Am(rnSt)                        // RN_ST
+                        .rnSt3Pm(rnSt)                        // 오전/오후 동일하게 처리
+                        .build());
+            } catch (RuntimeException e) {
+                skipped++;
+                logSkipped("중기 육상 예보", scanner, charset, e);
+            }
+        }
+
+        log.info("중기 육상 예보 파싱 완료 - {}건, 건너뜀 {}건", items.size(), skipped);
+        return items;
+    }
+
+    private static void logSkipped(String target, Typ01Scanner scanner, Charset charset, RuntimeException e) {
+        log.warn("{} 잘못된 줄 건너뜀 - REG_ID: {}, 오류: {}", target, scanner.text(0, charset), e.getMessage());
+    }
+}
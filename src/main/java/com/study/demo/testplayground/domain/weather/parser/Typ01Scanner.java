@@ -0,0 +1,181 @@
+package com.study.demo.testplayground.domain.weather.parser;
+
+import java.nio.charset.Charset;
+import java.time.LocalDateTime;
+
+/**
+ * KMA typ01 텍스트 응답용 바이트 단위 스캐너
+ * '#'으로 시작하는 주석 줄과 빈 줄을 건너뛰고, 공백/탭/쉼표로 구분된 필드의 위치만 기록한다.
+ * 따옴표로 감싼 필드("구름많고 비")는 내부 공백을 포함한 하나의 필드로 취급하며 따옴표는 제외한다.
+ *
+ * 필드 분리 과정에서 객체를 만들지 않으며, 값은 필요한 필드만 타입별 접근자로 바로 읽는다.
+ * 인스턴스는 reset()으로 재사용할 수 있고 스레드 안전하지 않다.
+ */
+public class Typ01Scanner {
+
+    private static final int MAX_FIELDS = 32;
+
+    private final int[] starts = new int[MAX_FIELDS];
+    private final int[] ends = new int[MAX_FIELDS];
+
+    private byte[] data;
+    private int limit;
+    private int position;
+    private int fieldCount;
+
+    public Typ01Scanner(byte[] data) {
+        reset(data, 0, data.length);
+    }
+
+    /**
+     * 새 입력으로 스캐너 재설정
+     */
+    public Typ01Scanner reset(byte[] data, int offset, int length) {
+        this.data = data;
+        this.position = offset;
+        this.limit = offset + length;
+        this.fieldCount = 0;
+        return this;
+    }
+
+    /**
+     * 다음 데이터 줄로 이동하여 필드를 분리
+     * 더 이상 데이터 줄이 없으면 false 반환
+     */
+    public boolean nextRecord() {
+        while (position < limit) {
+            int lineEnd = position;
+            while (lineEnd < limit && data[lineEnd] != '\n') {
+                lineEnd++;
+            }
+
+            int lineStart = skipBlanks(position, lineEnd);
+            position = lineEnd + 1;
+
+            if (lineStart < lineEnd && data[lineStart] != '#') {
+                tokenize(lineStart, lineEnd);
+                if (fieldCount > 0) {
+                    return true;
+                }
+            }
+        }
+
+        fieldCount = 0;
+        return false;
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * 필드를 문자열로 디코딩 (해당 필드가 없으면 null)
+     */
+    public String text(int index, Charset charset) {
+        if (index >= fieldCount) {
+            return null;
+        }
+        return new String(data, starts[index], ends[index] - starts[index], charset);
+    }
+
+    /**
+     * 필드를 정수로 읽기 (부호 허용, 해당 필드가 없으면 defaultValue)
+     */
+    public int intValue(int index, int defaultValue) {
+        if (index >= fieldCount) {
+            return defaultValue;
+        }
+        return (int) parseLong(starts[index], ends[index]);
+    }
+
+    /**
+     * yyyyMMddHHmm 형식 필드를 LocalDateTime으로 읽기 (yyyyMMdd만 있으면 0시 0분)
+     */
+    public LocalDateTime dateTime(int index) {
+        checkIndex(index);
+
+        int start = starts[index];
+        int length = ends[index] - start;
+        if (length != 8 && length != 12) {
+            throw new IllegalArgumentException("날짜 형식이 아닌 필드: " + text(index, Charset.defaultCharset()));
+        }
+
+        int year = (int) parseLong(start, start + 4);
+        int month = (int) parseLong(start + 4, start + 6);
+        int day = (int) parseLong(start + 6, start + 8);
+        int hour = length == 12 ? (int) parseLong(start + 8, start + 10) : 0;
+        int minute = length == 12 ? (int) parseLong(start + 10, start + 12) : 0;
+
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    // === 내부 메서드들 ===
+
+    private void tokenize(int start, int end) {
+        fieldCount = 0;
+        int i = start;
+
+        while (i < end && fieldCount < MAX_FIELDS) {
+            i = skipBlanks(i, end);
+            if (i >= end) {
+                break;
+            }
+
+            if (data[i] == '"') {
+                int fieldStart = ++i;
+                while (i < end && data[i] != '"') {
+                    i++;
+                }
+                addField(fieldStart, i);
+                i++; // 닫는 따옴표
+            } else {
+                int fieldStart = i;
+                while (i < end && !isDelimiter(data[i])) {
+                    i++;
+                }
+                addField(fieldStart, i);
+            }
+        }
+    }
+
+    private void addField(int start, int end) {
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        fieldCount++;
+    }
+
+    private int skipBlanks(int i, int end) {
+        while (i < end && isDelimiter(data[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == ',';
+    }
+
+    private long parseLong(int start, int end) {
+        if (start >= end) {
+            throw new NumberFormatException("빈 숫자 필드");
+        }
+
+        boolean negative = data[start] == '-';
+        int i = negative || data[start] == '+' ? start + 1 : start;
+        long value = 0;
+        for (; i < end; i++) {
+            byte b = data[i];
+            if (b < '0' || b > '9') {
+                throw new NumberFormatException("숫자가 아닌 필드: " + new String(data, start, end - start));
+            }
+            value = value * 10 + (b - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private void checkIndex(int index) {
+        if (index >= fieldCount) {
+            throw new IndexOutOfBoundsException("필드 " + index + " 없음 (필드 수: " + fieldCount + ")");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.demo.testplayground.domain.weather.repository;
+
+import com.study.demo.testplayground.global.jdbc.TableIdAllocator;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 실행 도우미 (MySQL 8.0.19+ 행 별칭 문법)
+ * 행을 chunkSize개씩 묶어 한 문장으로 보내므로 드라이버 설정(rewriteBatchedStatements)과 무관하게
+ * 청크당 왕복 한 번으로 저장한다.
+ *
+ * id, created_at, updated_at은 공통으로 채운다: id는 테이블 이름의 ID 구간에서 행마다 할당하고
+ * (이미 있는 행이면 기존 ID가 유지되어 할당한 값은 사용되지 않음), 키 중복 시 created_at은 유지한다.
+ * 테이블별 구현은 나머지 컬럼 목록과 바인딩만 정의한다.
+ */
+final class BatchUpsertSupport {
+
+    @FunctionalInterface
+    interface ColumnBinder<T> {
+
+        /**
+         * 행 하나의 테이블별 컬럼 파라미터를 index부터 바인딩하고 다음 index 반환
+         */
+        int bind(PreparedStatement ps, int index, T row) throws SQLException;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TableIdAllocator idAllocator;
+    private final int chunkSize;
+    private final String table;
+    private final String insertClause;
+    private final String rowPlaceholder;
+    private final String updateClause;
+
+    /**
+     * @param table          테이블 이름 (ID 구간 이름으로도 사용)
+     * @param columns        id, created_at, updated_at을 제외한 컬럼 (바인딩 순서)
+     * @param updateColumns  키 중복 시 새 값으로 갱신할 컬럼 (updated_at은 항상 갱신)
+     */
+    BatchUpsertSupport(JdbcTemplate jdbcTemplate, TableIdAllocator idAllocator, int chunkSize,
+                       String table, List<String> columns, List<String> updateColumns) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+        this.chunkSize = chunkSize;
+        this.table = table;
+        this.insertClause = "INSERT INTO " + table + " (id, " + String.join(", ", columns) + ", created_at, updated_at)";
+        this.rowPlaceholder = "(" + String.join(", ", Collections.nCopies(columns.size() + 3, "?")) + ")";
+        this.updateClause = updateColumns.stream()
+                .map(column -> column + " = incoming." + column)
+                .collect(Collectors.joining(", ", "", ", updated_at = incoming.updated_at"));
+    }
+
+    /**
+     * 전체 행을 청크 단위로 upsert (MySQL 영향 행 수 합계: 삽입 1, 변경 2, 동일 0)
+     */
+    <T> int upsertAll(List<T> rows, ColumnBinder<T> binder) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long[] ids = idAllocator.allocate(table, rows.size());
+        int affected = 0;
+
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(rows.size(), from + chunkSize);
+
+            affected += jdbcTemplate.update(sql(end - start), ps -> {
+                int index = 1;
+                for (int rowNumber = start; rowNumber < end; rowNumber++) {
+                    ps.setLong(index++, ids[rowNumber]);
+                    index = binder.bind(ps, index, rows.get(rowNumber));
+                    ps.setObject(index++, now);
+                    ps.setObject(index++, now);
+                }
+            });
+        }
+        return affected;
+    }
+
+    private String sql(int rowCount) {
+        StringBuilder sql = new StringBuilder(insertClause.length() + rowCount * (rowPlaceholder.length() + 2) + 128)
+                .append(insertClause)
+                .append(" VALUES ");
+
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholder);
+        }
+
+        return sql.append(" AS incoming ON DUPLICATE KEY UPDATE ")
+                .append(updateClause)
+                .toString();
+    }
+}
@@ -1,7 +1,10 @@
 package com.study.demo.testplayground.domain.weather.repository;
 
+import com.study.demo.testplayground.domain.weather.dto.projection.DailyRecommendationRow;
 import com.study.demo.testplayground.domain.weather.entity.DailyRecommendation;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,36 +15,65 @@ import java.util.Optional;
 public interface DailyRecommendationRepository extends JpaRepository<DailyRecommendation, Long> {
 
     /**
-     * 지역 ID와 예보 날짜로 일일 추천 정보 조회
+     * 지역 ID와 날짜 범위로 추천 정보 조회 (날짜순 정렬, 지역·템플릿 함께 조회)
      */
-    Optional<DailyRecommendation> findByRegionIdAndForecastDate(Long regionId, LocalDate forecastDate);
+    @EntityGraph(attributePaths = {"region", "weatherTemplate"})
+    List<DailyRecommendation> findByRegionIdAndForecastDateBetweenOrderByForecastDate(
+            Long regionId, LocalDate startDate, LocalDate endDate);
 
     /**
-     * 지역 ID와 날짜 범위로 추천 정보 조회 (날짜순 정렬)
+     * 지역 ID와 예보 날짜로 일일 추천 행 조회 (조회 전용 프로젝션)
      */
-    List<DailyRecommendation> findByRegionIdAndForecastDateBetweenOrderByForecastDate(
-            Long regionId, LocalDate startDate, LocalDate endDate);
+    @Query("SELECT new com.study.demo.testplayground.domain.weather.dto.projection.DailyRecommendationRow(" +
+            "dr.id, r.id, r.name, dr.forecastDate, dr.weatherTemplate.id, dr.updatedAt, dr.stale) " +
+            "FROM DailyRecommendation dr JOIN dr.region r " +
+            "WHERE r.id = :regionId AND dr.forecastDate = :forecastDate")
+    Optional<DailyRecommendationRow> findRowByRegionIdAndForecastDate(
+            @Param("regionId") Long regionId, @Param("forecastDate") LocalDate forecastDate);
+
+    /**
+     * 지역 ID와 날짜 범위로 일일 추천 행 조회 (날짜순 정렬, 조회 전용 프로젝션)
+     */
+    @Query("SELECT new com.study.demo.testplayground.domain.weather.dto.projection.DailyRecommendationRow(" +
+            "dr.id, r.id, r.name, dr.forecastDate, dr.weatherTemplate.id, dr.updatedAt, dr.stale) " +
+            "FROM DailyRecommendation dr JOIN dr.region r " +
+            "WHERE r.id = :regionId AND dr.forecastDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY dr.forecastDate")
+    List<DailyRecommendationRow> findRowsByRegionIdAndForecastDateBetween(
+            @Param("regionId") Long regionId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
 
     /**
-     * 특정 날짜의 모든 지역 추천 정보 조회 (지역명순 정렬)
+     * 특정 날짜의 모든 지역 일일 추천 행 조회 (지역명순 정렬, 조회 전용 프로젝션)
      */
-    @Query("SELECT dr FROM DailyRecommendation dr " +
-            "JOIN FETCH dr.region r " +
-            "JOIN FETCH dr.weatherTemplate wt " +
+    @Query("SELECT new com.study.demo.testplayground.domain.weather.dto.projection.DailyRecommendationRow(" +
+            "dr.id, r.id, r.name, dr.forecastDate, dr.weatherTemplate.id, dr.updatedAt, dr.stale) " +
+            "FROM DailyRecommendation dr JOIN dr.region r " +
             "WHERE dr.forecastDate = :forecastDate " +
             "ORDER BY r.name")
-    List<DailyRecommendation> findByForecastDateOrderByRegionName(@Param("forecastDate") LocalDate forecastDate);
+    List<DailyRecommendationRow> findRowsByForecastDate(@Param("forecastDate") LocalDate forecastDate);
 
     /**
-     * 지역과 날짜 범위로 추천 정보 존재 여부 확인
+     * 날짜 범위의 모든 지역 일일 추천 행 조회 (지역·날짜순 정렬, 조회 전용 프로젝션)
      */
-    boolean existsByRegionIdAndForecastDateBetween(Long regionId, LocalDate startDate, LocalDate endDate);
+    @Query("SELECT new com.study.demo.testplayground.domain.weather.dto.projection.DailyRecommendationRow(" +
+            "dr.id, r.id, r.name, dr.forecastDate, dr.weatherTemplate.id, dr.updatedAt, dr.stale) " +
+            "FROM DailyRecommendation dr JOIN dr.region r " +
+            "WHERE dr.forecastDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY r.id, dr.forecastDate")
+    List<DailyRecommendationRow> findRowsByForecastDateBetween(
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     /**
-     * 특정 지역의 최신 추천 정보 조회
+     * 지역의 날짜 범위 추천 정보를 갱신 지연(stale) 상태로 표시 (updatedAt도 함께 갱신, 이미 stale인 행은 제외)
      */
-    @Query("SELECT dr FROM DailyRecommendation dr " +
+    @Modifying
+    @Query("UPDATE DailyRecommendation dr SET dr.stale = true, dr.updatedAt = CURRENT_TIMESTAMP " +
             "WHERE dr.region.id = :regionId " +
-            "ORDER BY dr.forecastDate DESC, dr.updatedAt DESC")
-    List<DailyRecommendation> findLatestByRegionId(@Param("regionId") Long regionId);
+            "AND dr.forecastDate BETWEEN :startDate AND :endDate " +
+            "AND dr.stale = false")
+    int markStale(@Param("regionId") Long regionId,
+                  @Param("startDate") LocalDate startDate,
+                  @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,38 @@
+package com.study.demo.testplayground.domain.weather.repository;
+
+import com.study.demo.testplayground.domain.weather.entity.IngestionDeadLetter;
+import com.study.demo.testplayground.domain.weather.entity.enums.ForecastProduct;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface IngestionDeadLetterRepository extends JpaRepository<IngestionDeadLetter, Long> {
+
+    Optional<IngestionDeadLetter> findByRegionIdAndProduct(Long regionId, ForecastProduct product);
+
+    /**
+     * 재처리 시각이 된 항목 조회 (지역 fetch join)
+     */
+    @Query("SELECT dl FROM IngestionDeadLetter dl " +
+            "JOIN FETCH dl.region " +
+            "WHERE dl.nextAttemptAt <= :now " +
+            "ORDER BY dl.nextAttemptAt")
+    List<IngestionDeadLetter> findDue(@Param("now") LocalDateTime now);
+
+    /**
+     * 대기 중인 (지역 ID, 예보 종류) 목록
+     */
+    @Query("SELECT dl.region.id, dl.product FROM IngestionDeadLetter dl")
+    List<Object[]> findAllKeys();
+
+    @Modifying
+    @Query("DELETE FROM IngestionDeadLetter dl " +
+            "WHERE dl.region.id = :regionId " +
+            "AND dl.product = :product")
+    int deleteByRegionIdAndProduct(@Param("regionId") Long regionId, @Param("product") ForecastProduct product);
+}
@@ -2,14 +2,17 @@ package com.study.demo.testplayground.domain.weather.repository;
 
 import com.study.demo.testplayground.domain.weather.entity.RawMediumTermWeather;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
-public interface RawMediumTermWeatherRepository extends JpaRepository<RawMediumTermWeather, Long> {
+public interface RawMediumTermWeatherRepository
+        extends JpaRepository<RawMediumTermWeather, Long>, RawMediumTermWeatherRepositoryCustom {
 
     /**
      * 지역과 발효 날짜로 중기 예보 데이터 조회
@@ -31,9 +34,12 @@ public interface RawMediumTermWeatherRepository extends JpaRepository<RawMediumT
     List<RawMediumTermWeather> findLatestByRegionId(@Param("regionId") Long regionId);
 
     /**
-     * 오래된 중기 예보 데이터 삭제용 조회
+     * 발효일이 기준일 이전인 중기 예보 데이터를 최대 limit건 삭제 (호출마다 커밋, 파티션 DROP과 같은 tmef 기준)
      */
-    @Query("SELECT rmt FROM RawMediumTermWeather rmt " +
-            "WHERE rmt.tmfc < :cutoffDate")
-    List<RawMediumTermWeather> findOldRecords(@Param("cutoffDate") LocalDate cutoffDate);
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM raw_medium_term_weather " +
+            "WHERE tmef < :cutoffDate " +
+            "LIMIT :limit", nativeQuery = true)
+    int deleteOldRecords(@Param("cutoffDate") LocalDate cutoffDate, @Param("limit") int limit);
 }
@@ -0,0 +1,38 @@
+package com.study.demo.testplayground.domain.weather.repository;
+
+import com.study.demo.testplayground.domain.weather.entity.RawMediumTermWeather;
+import com.study.demo.testplayground.global.jdbc.TableIdAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+class RawMediumTermWeatherRepositoryImpl implements RawMediumTermWeatherRepositoryCustom {
+
+    private final BatchUpsertSupport upsertSupport;
+
+    RawMediumTermWeatherRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            TableIdAllocator idAllocator,
+            @Value("${weather.ingestion.upsert-chunk-size:500}") int chunkSize) {
+
+        this.upsertSupport = new BatchUpsertSupport(jdbcTemplate, idAllocator, chunkSize,
+                "raw_medium_term_weather",
+                List.of("region_id", "tmfc", "tmef", "sky", "pop", "min_tmp", "max_tmp"),
+                List.of("sky", "pop", "min_tmp", "max_tmp"));
+    }
+
+    @Override
+    public int upsertAll(List<RawMediumTermWeather> weathers) {
+        return upsertSupport.upsertAll(weathers, (ps, index, weather) -> {
+            ps.setLong(index++, weather.getRegion().getId());
+            ps.setObject(index++, weather.getTmfc());
+            ps.setObject(index++, weather.getTmef());
+            ps.setString(index++, weather.getSky());
+            ps.setDouble(index++, weather.getPop());
+            ps.setDouble(index++, weather.getMinTmp());
+            ps.setDouble(index++, weather.getMaxTmp());
+            return index;
+        });
+    }
+}
@@ -2,14 +2,17 @@ package com.study.demo.testplayground.domain.weather.repository;
 
 import com.study.demo.testplayground.domain.weather.entity.RawShortTermWeather;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
-public interface RawShortTermWeatherRepository extends JpaRepository<RawShortTermWeather, Long> {
+public interface RawShortTermWeatherRepository
+        extends JpaRepository<RawShortTermWeather, Long>, RawShortTermWeatherRepositoryCustom {
 
     /**
      * 지역과 예보 날짜로 단기 예보 데이터 조회
@@ -34,9 +37,12 @@ public interface RawShortTermWeatherRepository extends JpaRepository<RawShortTer
             @Param("fcstDate") LocalDate fcstDate);
 
     /**
-     * 오래된 단기 예보 데이터 삭제용 조회
+     * 예보 날짜가 기준일 이전인 단기 예보 데이터를 최대 limit건 삭제 (호출마다 커밋, 파티션 DROP과 같은 fcst_date 기준)
      */
-    @Query("SELECT rst FROM RawShortTermWeather rst " +
-            "WHERE rst.baseDate < :cutoffDate")
-    List<RawShortTermWeather> findOldRecords(@Param("cutoffDate") LocalDate cutoffDate);
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM raw_short_term_weather " +
+            "WHERE fcst_date < :cutoffDate " +
+            "LIMIT :limit", nativeQuery = true)
+    int deleteOldRecords(@Param("cutoffDate") LocalDate cutoffDate, @Param("limit") int limit);
 }
@@ -0,0 +1,13 @@
+package com.study.demo.testplayground.domain.weather.repository;
+
+import com.study.demo.testplayground.domain.weather.entity.RawShortTermWeather;
+
+import java.util.List;
+
+public interface RawShortTermWeatherRepositoryCustom {
+
+    /**
+     * (지역, 발표일시, 예보일시) 기준 일괄 upsert (JDBC 다중 행 문장, 영속성 컨텍스트를 거치지 않음)
+     */
+    int upsertAll(List<RawShortTermWeather> weathers);
+}
@@ -0,0 +1,42 @@
+package com.study.demo.testplayground.domain.weather.repository;
+
+import com.study.demo.testplayground.domain.weather.entity.RawShortTermWeather;
+import com.study.demo.testplayground.global.jdbc.TableIdAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+class RawShortTermWeatherRepositoryImpl implements RawShortTermWeatherRepositoryCustom {
+
+    private final BatchUpsertSupport upsertSupport;
+
+    RawShortTermWeatherRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            TableIdAllocator idAllocator,
+            @Value("${weather.ingestion.upsert-chunk-size:500}") int chunkSize) {
+
+        this.upsertSupport = new BatchUpsertSupport(jdbcTemplate, idAllocator, chunkSize,
+                "raw_short_term_weather",
+                List.of("region_id", "base_date", "base_time", "fcst_date", "fcst_time",
+                        "tmp", "sky", "pop", "pty", "pcp"),
+                List.of("tmp", "sky", "pop", "pty", "pcp"));
+    }
+
+    @Override
+    public int upsertAll(List<RawShortTermWeather> weathers) {
+        return upsertSupport.upsertAll(weathers, (ps, index, weather) -> {
+            ps.setLong(index++, weather.getRegion().getId());
+            ps.setObject(index++, weather.getBaseDate());
+            ps.setString(index++, weather.getBaseTime());
+            ps.setObject(index++, weather.getFcstDate());
+            ps.setString(index++, weather.getFcstTime());
+            ps.setDouble(index++, weather.getTmp());
+            ps.setString(index++, weather.getSky());
+            ps.setDouble(index++, weather.getPop());
+            ps.setString(index++, weather.getPty());
+            ps.setDouble(index++, weather.getPcp());
+            return index;
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.study.demo.testplayground.domain.weather.repository;
 
+import com.study.demo.testplayground.domain.weather.dto.projection.RegionLocation;
 import com.study.demo.testplayground.domain.weather.entity.Region;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -21,6 +22,35 @@ public interface RegionRepository extends JpaRepository<Region, Long> {
      */
     Optional<Region> findByRegCode(String regCode);
 
+    /**
+     * 격자 좌표(nx, ny)가 같은 지역 검색
+     */
+    List<Region> findByGridXAndGridY(BigDecimal gridX, BigDecimal gridY);
+
+    /**
+     * 지역명 조회 (지역 존재 여부 확인 겸용)
+     */
+    @Query("SELECT r.name FROM Region r WHERE r.id = :id")
+    Optional<String> findNameById(@Param("id") Long id);
+
+    /**
+     * 격자 좌표(nx, ny) 범위 내 지역의 좌표 조회 (조회 전용 프로젝션)
+     */
+    @Query("SELECT new com.study.demo.testplayground.domain.weather.dto.projection.RegionLocation(r.id, r.name, r.latitude, r.longitude) " +
+            "FROM Region r WHERE r.gridX BETWEEN :minX AND :maxX AND r.gridY BETWEEN :minY AND :maxY")
+    List<RegionLocation> findLocationsByGridBetween(
+            @Param("minX") BigDecimal minGridX,
+            @Param("maxX") BigDecimal maxGridX,
+            @Param("minY") BigDecimal minGridY,
+            @Param("maxY") BigDecimal maxGridY
+    );
+
+    /**
+     * 모든 지역의 좌표 조회 (조회 전용 프로젝션)
+     */
+    @Query("SELECT new com.study.demo.testplayground.domain.weather.dto.projection.RegionLocation(r.id, r.name, r.latitude, r.longitude) FROM Region r")
+    List<RegionLocation> findAllLocations();
+
     /**
      * 좌표 범위 내 지역 검색
      */
@@ -1,21 +1,18 @@
 package com.study.demo.testplayground.domain.weather.repository;
 
 import com.study.demo.testplayground.domain.weather.entity.WeatherTemplate;
-import com.study.demo.testplayground.domain.weather.entity.enums.PrecipCategory;
-import com.study.demo.testplayground.domain.weather.entity.enums.TempCategory;
-import com.study.demo.testplayground.domain.weather.entity.enums.WeatherType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface WeatherTemplateRepository extends JpaRepository<WeatherTemplate, Long> {
 
     /**
-     * 날씨, 기온, 강수량 카테고리로 템플릿 조회
+     * 전체 템플릿을 키워드와 함께 조회 (템플릿 레지스트리 로드용)
      */
-    Optional<WeatherTemplate> findByWeatherAndTempCategoryAndPrecipCategory(
-            WeatherType weather,
-            TempCategory tempCategory,
-            PrecipCategory precipCategory
-    );
+    @Query("SELECT DISTINCT wt FROM WeatherTemplate wt " +
+            "LEFT JOIN FETCH wt.templateKeywords tk " +
+            "LEFT JOIN FETCH tk.keyword")
+    List<WeatherTemplate> findAllWithKeywords();
 }
@@ -1,30 +1,86 @@
 package com.study.demo.testplayground.domain.weather.service;
 
+import com.study.demo.testplayground.domain.weather.client.AdaptiveConcurrencyLimiter;
+import com.study.demo.testplayground.domain.weather.client.KmaCircuitBreaker;
+import com.study.demo.testplayground.domain.weather.client.KmaRetryPolicy;
+import com.study.demo.testplayground.domain.weather.client.RequestHedger;
+import com.study.demo.testplayground.domain.weather.converter.KmaGridConverter;
 import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import com.study.demo.testplayground.domain.weather.parser.ContentFingerprint;
+import com.study.demo.testplayground.domain.weather.parser.ShortTermForecastDecoder;
+import com.study.demo.testplayground.domain.weather.parser.Typ01ResponseParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDate;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * KMA API 호출 서비스
+ * 모든 호출은 AdaptiveConcurrencyLimiter를 거쳐 업스트림이 감당할 수 있는 동시성 안에서 실행되며,
+ * 일시적 오류는 KmaRetryPolicy에 따라 지터를 둔 지수 백오프로 재시도한다.
+ * 예보 조회는 RequestHedger가 한도 안에서 실행하며, 허가를 얻은 뒤에도 느린 응답에 한해 중복 요청을 보낼 수 있다 (kma.hedge.enabled).
+ * 업스트림 장애 시 KmaCircuitBreaker가 열려 재시도·타임아웃 대기 없이 즉시 실패한다.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class WeatherApiService {
 
     private final WebClient kmaWebClient;
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final KmaRetryPolicy kmaRetryPolicy;
+    private final RequestHedger requestHedger;
+    private final KmaCircuitBreaker kmaCircuitBreaker;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String GRID_MODE_REMOTE = "remote";
+    private static final String SHORT_TERM_OPERATION = "short-term";
+
+    // 격자 좌표 계산 방식 (local: 프로세스 내 투영, remote: 기상청 API 호출)
+    @Value("${weather.grid.mode:local}")
+    private String gridMode;
+
+    // local 모드에서 원격 API 결과와 비교할지 여부
+    @Value("${weather.grid.cross-check:false}")
+    private boolean gridCrossCheck;
 
     /**
-     * 격자 데이터 위경도 조회 API 호출
-     * URL: https://apihub.kma.go.kr/api/typ01/cgi-bin/url/nph-dfs_xy_lonlat?authKey=XXX&lat=37.571711&lon=126.986070
+     * 위경도 → 격자 좌표 조회
+     * local 모드(기본): 기상청 LCC 투영으로 프로세스 내에서 계산, cross-check 설정 시 원격 API 결과와 비교 로그만 남김
+     * remote 모드: 원격 API 호출, 응답 파싱 실패 시 로컬 계산값 사용
      */
     public Mono<WeatherResDTO.GridCoordinateResponse> getGridCoordinate(Double lat, Double lon) {
+        WeatherResDTO.GridCoordinateResponse local = toGridCoordinateResponse(lat, lon);
+
+        if (GRID_MODE_REMOTE.equalsIgnoreCase(gridMode)) {
+            return getRemoteGridCoordinate(lat, lon)
+                    .defaultIfEmpty(local);
+        }
+
+        if (gridCrossCheck) {
+            getRemoteGridCoordinate(lat, lon)
+                    .subscribe(remote -> compareGridCoordinate(local, remote),
+                            error -> log.warn("격자 좌표 교차 검증 실패: {}", error.getMessage()));
+        }
+        return Mono.just(local);
+    }
+
+    /**
+     * 격자 데이터 위경도 조회 API 호출 (응답 파싱 실패 시 empty)
+     * URL: https://apihub.kma.go.kr/api/typ01/cgi-bin/url/nph-dfs_xy_lonlat?authKey=XXX&lat=37.571711&lon=126.986070
+     */
+    private Mono<WeatherResDTO.GridCoordinateResponse> getRemoteGridCoordinate(Double lat, Double lon) {
         log.info("격자 좌표 조회 API 호출 - 위도: {}, 경도: {}", lat, lon);
 
         return kmaWebClient.get()
@@ -35,8 +91,11 @@ public class WeatherApiService {
                         .queryParam("lon", lon)
                         .build())
                 .retrieve()
-                .bodyToMono(String.class)
-                .map(this::parseGridCoordinateResponse)
+                .toEntity(byte[].class)
+                .mapNotNull(this::parseGridCoordinateResponse)
+                .transform(adaptiveConcurrencyLimiter::limit)
+                .transform(kmaCircuitBreaker::protect)
+                .retryWhen(kmaRetryPolicy.spec())
                 .doOnSuccess(response -> log.info("격자 좌표 조회 성공: {}", response))
                 .doOnError(error -> log.error("격자 좌표 조회 실패: {}", error.getMessage()));
     }
@@ -44,46 +103,79 @@ public class WeatherApiService {
     /**
      * 단기 예보 조회 API 호출
      * URL: https://apihub.kma.go.kr/api/typ02/openApi/VilageFcstInfoService_2.0/getVilageFcst?pageNo=1&numOfRows=152&dataType=JSON&base_date=20250702&base_time=1400&nx=55&ny=127&authKey=XXX
+     *
+     * 응답 본문을 DataBuffer 단위로 스트리밍 디코딩하여 예보 시각 × 자료 구분 표와 응답 내용 지문을 함께 반환
      */
-    public Mono<WeatherResDTO.ShortTermWeatherResponse> getShortTermWeather(
+    public Mono<WeatherResDTO.ShortTermForecast> getShortTermWeather(
             String baseDate, String baseTime, Integer nx, Integer ny) {
 
         log.info("단기 예보 조회 API 호출 - 기준일시: {} {}, 격자: ({}, {})", baseDate, baseTime, nx, ny);
 
-        return kmaWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/api/typ02/openApi/VilageFcstInfoService_2.0/getVilageFcst")
-                        .queryParam("pageNo", "1")
-                        .queryParam("numOfRows", "1000")
-                        .queryParam("dataType", "JSON")
-                        .queryParam("base_date", baseDate)
-                        .queryParam("base_time", baseTime)
-                        .queryParam("nx", nx)
-                        .queryParam("ny", ny)
-                        .queryParam("authKey", "{authKey}")
-                        .build())
-                .retrieve()
-                .bodyToMono(WeatherResDTO.ShortTermWeatherResponse.class)
-                .doOnSuccess(response -> log.info("단기 예보 조회 성공"))
+        Mono<WeatherResDTO.ShortTermForecast> request = Mono.defer(() -> {
+                    ShortTermForecastDecoder decoder = new ShortTermForecastDecoder();
+
+                    return kmaWebClient.get()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path("/api/typ02/openApi/VilageFcstInfoService_2.0/getVilageFcst")
+                                    .queryParam("pageNo", "1")
+                                    .queryParam("numOfRows", "1000")
+                                    .queryParam("dataType", "JSON")
+                                    .queryParam("base_date", baseDate)
+                                    .queryParam("base_time", baseTime)
+                                    .queryParam("nx", nx)
+                                    .queryParam("ny", ny)
+                                    .queryParam("authKey", "{authKey}")
+                                    .build())
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class)
+                            .doOnNext(buffer -> {
+                                try {
+                                    decoder.feed(buffer);
+                                } finally {
+                                    DataBufferUtils.release(buffer);
+                                }
+                            })
+                            .then(Mono.fromCallable(() -> WeatherResDTO.ShortTermForecast.builder()
+                                    .table(decoder.finish())
+                                    .fingerprint(decoder.fingerprint())
+                                    .build()));
+                });
+
+        return kmaCircuitBreaker.protect(requestHedger.hedge(SHORT_TERM_OPERATION, request))
+                .retryWhen(kmaRetryPolicy.spec())
+                .doOnSuccess(forecast -> log.info("단기 예보 조회 성공"))
                 .doOnError(error -> log.error("단기 예보 조회 실패: {}", error.getMessage()));
     }
 
     /**
      * 중기 기온 예보 조회 API 호출
      * URL: https://apihub.kma.go.kr/api/typ01/url/fct_afs_wc.php?reg=11B10101&authKey=XXX
+     * regCode가 null이면 전국 지역 조회
      */
     public Mono<WeatherResDTO.MediumTermTemperatureResponse> getMediumTermTemperature(String regCode) {
+        return fetchMediumTermTemperature(regCode)
+                .map(this::parseMediumTermTemperatureResponse);
+    }
+
+    /**
+     * 중기 기온 예보 응답 본문 조회 (파싱 전)
+     */
+    public Mono<WeatherResDTO.Typ01Payload> fetchMediumTermTemperature(String regCode) {
         log.info("중기 기온 예보 조회 API 호출 - 지역코드: {}", regCode);
+        String operation = mediumTermOperation("medium-term-temperature", regCode);
 
-        return kmaWebClient.get()
+        Mono<WeatherResDTO.Typ01Payload> request = kmaWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/api/typ01/url/fct_afs_wc.php")
-                        .queryParam("reg", regCode)
+                        .queryParamIfPresent("reg", Optional.ofNullable(regCode))
                         .queryParam("authKey", "{authKey}")
                         .build())
                 .retrieve()
-                .bodyToMono(String.class)
-                .map(this::parseMediumTermTemperatureResponse)
+                .toEntity(byte[].class)
+                .map(this::toPayload);
+
+        return kmaCircuitBreaker.protect(requestHedger.hedge(operation, request))
+                .retryWhen(kmaRetryPolicy.spec())
                 .doOnSuccess(response -> log.info("중기 기온 예보 조회 성공"))
                 .doOnError(error -> log.error("중기 기온 예보 조회 실패: {}", error.getMessage()));
     }
@@ -91,113 +183,87 @@ public class WeatherApiService {
     /**
      * 중기 육상 예보 조회 API 호출
      * URL: https://apihub.kma.go.kr/api/typ01/url/fct_afs_wl.php?reg=11B00000&authKey=XXX
+     * regCode가 null이면 전국 지역 조회
      */
     public Mono<WeatherResDTO.MediumTermLandWeatherResponse> getMediumTermLandWeather(String regCode) {
+        return fetchMediumTermLandWeather(regCode)
+                .map(this::parseMediumTermLandWeatherResponse);
+    }
+
+    /**
+     * 중기 육상 예보 응답 본문 조회 (파싱 전)
+     */
+    public Mono<WeatherResDTO.Typ01Payload> fetchMediumTermLandWeather(String regCode) {
         log.info("중기 육상 예보 조회 API 호출 - 지역코드: {}", regCode);
+        String operation = mediumTermOperation("medium-term-land", regCode);
 
-        return kmaWebClient.get()
+        Mono<WeatherResDTO.Typ01Payload> request = kmaWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/api/typ01/url/fct_afs_wl.php")
-                        .queryParam("reg", regCode)
+                        .queryParamIfPresent("reg", Optional.ofNullable(regCode))
                         .queryParam("authKey", "{authKey}")
                         .build())
                 .retrieve()
-                .bodyToMono(String.class)
-                .map(this::parseMediumTermLandWeatherResponse)
+                .toEntity(byte[].class)
+                .map(this::toPayload);
+
+        return kmaCircuitBreaker.protect(requestHedger.hedge(operation, request))
+                .retryWhen(kmaRetryPolicy.spec())
                 .doOnSuccess(response -> log.info("중기 육상 예보 조회 성공"))
                 .doOnError(error -> log.error("중기 육상 예보 조회 실패: {}", error.getMessage()));
     }
 
     /**
-     * 격자 좌표 응답 파싱
-     * 응답 형태:
-     * #START7777
-     * #       LON,         LAT,   X,   Y
-     *  126.986069,   37.571712,  60, 127
+     * 중기 예보 헤징 구분 (전국 조회와 지역코드별 조회는 응답 크기와 지연 시간이 달라 따로 집계)
+     */
+    private static String mediumTermOperation(String endpoint, String regCode) {
+        return endpoint + (regCode == null ? ":bulk" : ":per-region");
+    }
+
+    /**
+     * 격자 좌표 응답 파싱 (실패 시 null)
      */
-    private WeatherResDTO.GridCoordinateResponse parseGridCoordinateResponse(String response) {
+    private WeatherResDTO.GridCoordinateResponse parseGridCoordinateResponse(ResponseEntity<byte[]> entity) {
         try {
-            String[] lines = response.split("\n");
-            for (String line : lines) {
-                line = line.trim();
-                if (line.startsWith("#") || line.isEmpty()) {
-                    continue;
-                }
-
-                // 데이터 라인을 찾았을 때
-                String[] parts = line.split(",");
-                if (parts.length >= 4) {
-                    return WeatherResDTO.GridCoordinateResponse.builder()
-                            .lon(parts[0].trim())
-                            .lat(parts[1].trim())
-                            .x(parts[2].trim())
-                            .y(parts[3].trim())
-                            .build();
-                }
+            WeatherResDTO.GridCoordinateResponse response =
+                    Typ01ResponseParser.parseGridCoordinate(bodyOf(entity), charsetOf(entity));
+            if (response != null) {
+                return response;
             }
         } catch (Exception e) {
             log.error("격자 좌표 응답 파싱 실패: {}", e.getMessage());
         }
 
-        // 파싱 실패 시 기본값 반환
-        log.warn("격자 좌표 파싱 실패, 기본값 반환");
+        log.warn("격자 좌표 파싱 실패, 로컬 계산값 사용");
+        return null;
+    }
+
+    private WeatherResDTO.GridCoordinateResponse toGridCoordinateResponse(Double lat, Double lon) {
+        KmaGridConverter.GridPoint grid = KmaGridConverter.toGrid(lat, lon);
+
         return WeatherResDTO.GridCoordinateResponse.builder()
-                .lat("37.5714")
-                .lon("126.9906")
-                .x("60")
-                .y("127")
+                .lat(String.valueOf(lat))
+                .lon(String.valueOf(lon))
+                .x(String.valueOf(grid.nx()))
+                .y(String.valueOf(grid.ny()))
                 .build();
     }
 
+    private void compareGridCoordinate(
+            WeatherResDTO.GridCoordinateResponse local, WeatherResDTO.GridCoordinateResponse remote) {
+
+        if (!local.x().equals(remote.x()) || !local.y().equals(remote.y())) {
+            log.warn("격자 좌표 불일치 - 로컬: ({}, {}), 원격: ({}, {})", local.x(), local.y(), remote.x(), remote.y());
+        }
+    }
+
     /**
      * 중기 기온 예보 응답 파싱
-     * 응답 형태:
-     * # REG_ID TM_FC        TM_EF        MOD STN C MIN MAX MIN_L MIN_H MAX_L MAX_H
-     * 11B10101 202507020600 202507060000 A01 109 2  25  31    1    1    1    1
-     *
-     * 필드 매핑:
-     * parts[0] = REG_ID, parts[1] = TM_FC, parts[2] = TM_EF
-     * parts[6] = MIN (최저기온), parts[7] = MAX (최고기온)
      */
-    private WeatherResDTO.MediumTermTemperatureResponse parseMediumTermTemperatureResponse(String response) {
-        List<WeatherResDTO.MediumTermTemperatureItem> items = new ArrayList<>();
-
-        try {
-            String[] lines = response.split("\n");
-            for (String line : lines) {
-                line = line.trim();
-                if (line.startsWith("#") || line.isEmpty()) {
-                    continue;
-                }
-
-                // 공백으로 분할 (여러 공백도 처리)
-                String[] parts = line.split("\\s+");
-                if (parts.length >= 8) {  // 최소 8개 필드 (REG_ID~MAX)까지 있어야 함
-                    WeatherResDTO.MediumTermTemperatureItem item =
-                            WeatherResDTO.MediumTermTemperatureItem.builder()
-                                    .regId(parts[0])      // REG_ID
-                                    .tmFc(parts[1])       // TM_FC
-                                    .tmEf(parts[2])       // TM_EF
-                                    .code(parts[3])       // MOD
-                                    .stnCode(parts[4])    // STN
-                                    .ctaCode(parts[5])    // C
-                                    .taMin3(parts[6])     // MIN (최저기온)
-                                    .taMax3(parts[7])     // MAX (최고기온)
-                                    // MIN_L, MIN_H, MAX_L, MAX_H는 Entity에서 사용하지 않으므로 생략
-                                    .taMin3Low(parts.length > 8 ? parts[8] : "1")
-                                    .taMin3High(parts.length > 9 ? parts[9] : "1")
-                                    .taMax3Low(parts.length > 10 ? parts[10] : "1")
-                                    .taMax3High(parts.length > 11 ? parts[11] : "1")
-                                    .build();
-                    items.add(item);
-                }
-            }
-
-            log.info("중기 기온 예보 파싱 완료 - {}건", items.size());
-
-        } catch (Exception e) {
-            log.error("중기 기온 예보 응답 파싱 실패: {}", e.getMessage());
-        }
+    public WeatherResDTO.MediumTermTemperatureResponse parseMediumTermTemperatureResponse(
+            WeatherResDTO.Typ01Payload payload) {
+        List<WeatherResDTO.MediumTermTemperatureItem> items =
+                Typ01ResponseParser.parseMediumTermTemperature(payload.body(), payload.charset());
 
         return WeatherResDTO.MediumTermTemperatureResponse.builder()
                 .response(WeatherResDTO.MediumTermTemperatureResponse.Response.builder()
@@ -217,58 +283,11 @@ public class WeatherApiService {
 
     /**
      * 중기 육상 예보 응답 파싱
-     * 응답 형태:
-     * # REG_ID TM_FC        TM_EF        MOD STN C SKY  PRE  CONF WF    RN_ST
-     * 11B00000 202507020600 202507060000 A02 109 2 WB04 WB00 없음 "흐림" 40
-     *
-     * 필드 매핑:
-     * parts[0] = REG_ID, parts[1] = TM_FC, parts[2] = TM_EF
-     * parts[9] = WF (날씨 상태: "흐림", "구름많음" 등)
      */
-    private WeatherResDTO.MediumTermLandWeatherResponse parseMediumTermLandWeatherResponse(String response) {
-        List<WeatherResDTO.MediumTermLandWeatherItem> items = new ArrayList<>();
-
-        try {
-            String[] lines = response.split("\n");
-            for (String line : lines) {
-                line = line.trim();
-                if (line.startsWith("#") || line.isEmpty()) {
-                    continue;
-                }
-
-                // 특수 처리: "흐림", "구름많음" 등이 따옴표로 감싸져 있을 수 있음
-                String processedLine = line;
-                if (line.contains("\"")) {
-                    processedLine = line.replaceAll("\"([^\"]+)\"", "$1");
-                }
-
-                String[] parts = processedLine.split("\\s+");
-                if (parts.length >= 10) {  // 최소 10개 필드 (REG_ID~WF)까지 있어야 함
-                    // parts[9] = WF (날씨 상태)
-                    String wf = parts[9];
-
-                    WeatherResDTO.MediumTermLandWeatherItem item =
-                            WeatherResDTO.MediumTermLandWeatherItem.builder()
-                                    .regId(parts[0])      // REG_ID
-                                    .tmFc(parts[1])       // TM_FC
-                                    .tmEf(parts[2])       // TM_EF
-                                    .code(parts[3])       // MOD
-                                    .stnCode(parts[4])    // STN
-                                    .ctaCode(parts[5])    // C
-                                    .wf3Am(wf)           // WF (날씨 상태)
-                                    .wf3Pm(wf)           // 오전/오후 동일하게 처리
-                                    .rnSt3Am(parts.length > 10 ? parts[10] : "0")  // RN_ST
-                                    .rnSt3Pm(parts.length > 10 ? parts[10] : "0")  // 오전/오후 동일하게 처리
-                                    .build();
-                    items.add(item);
-                }
-            }
-
-            log.info("중기 육상 예보 파싱 완료 - {}건", items.size());
-
-        } catch (Exception e) {
-            log.error("중기 육상 예보 응답 파싱 실패: {}", e.getMessage());
-        }
+    public WeatherResDTO.MediumTermLandWeatherResponse parseMediumTermLandWeatherResponse(
+            WeatherResDTO.Typ01Payload payload) {
+        List<WeatherResDTO.MediumTermLandWeatherItem> items =
+                Typ01ResponseParser.parseMediumTermLandWeather(payload.body(), payload.charset());
 
         return WeatherResDTO.MediumTermLandWeatherResponse.builder()
                 .response(WeatherResDTO.MediumTermLandWeatherResponse.Response.builder()
@@ -285,4 +304,27 @@ public class WeatherApiService {
                         .build())
                 .build();
     }
+
+    /**
+     * 응답 본문과 charset, 내용 지문을 묶음
+     */
+    private WeatherResDTO.Typ01Payload toPayload(ResponseEntity<byte[]> entity) {
+        byte[] body = bodyOf(entity);
+        return new WeatherResDTO.Typ01Payload(body, charsetOf(entity), ContentFingerprint.of(body));
+    }
+
+    private byte[] bodyOf(ResponseEntity<byte[]> entity) {
+        return entity.getBody() != null ? entity.getBody() : new byte[0];
+    }
+
+    /**
+     * 응답 Content-Type의 charset (없으면 UTF-8, String 디코딩 시와 동일)
+     */
+    private Charset charsetOf(ResponseEntity<byte[]> entity) {
+        MediaType contentType = entity.getHeaders().getContentType();
+        if (contentType != null && contentType.getCharset() != null) {
+            return contentType.getCharset();
+        }
+        return StandardCharsets.UTF_8;
+    }
 }
@@ -1,258 +1,458 @@
 package com.study.demo.testplayground.domain.weather.service;
 
+import com.study.demo.testplayground.domain.weather.client.KmaCircuitOpenException;
+import com.study.demo.testplayground.domain.weather.converter.MediumTermForecastJoiner;
 import com.study.demo.testplayground.domain.weather.converter.WeatherConverter;
 import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
 import com.study.demo.testplayground.domain.weather.entity.*;
+import com.study.demo.testplayground.domain.weather.entity.enums.ForecastProduct;
 import com.study.demo.testplayground.domain.weather.entity.enums.PrecipCategory;
 import com.study.demo.testplayground.domain.weather.entity.enums.TempCategory;
 import com.study.demo.testplayground.domain.weather.entity.enums.WeatherType;
+import com.study.demo.testplayground.domain.weather.parser.ContentFingerprint;
+import com.study.demo.testplayground.domain.weather.parser.ShortTermForecastTable;
 import com.study.demo.testplayground.domain.weather.repository.*;
+import com.study.demo.testplayground.domain.weather.service.ingestion.ForecastFingerprintStore;
+import com.study.demo.testplayground.domain.weather.service.ingestion.IngestionDeadLetterQueue;
+import com.study.demo.testplayground.domain.weather.service.ingestion.IngestionOutcome;
+import com.study.demo.testplayground.domain.weather.service.ingestion.MediumTermForecastCoalescer;
+import com.study.demo.testplayground.domain.weather.service.ingestion.RegionIngestionEngine;
+import com.study.demo.testplayground.domain.weather.service.query.RecommendationReadModel;
+import com.study.demo.testplayground.domain.weather.service.retention.ForecastPartitionManager;
+import com.study.demo.testplayground.domain.weather.service.template.WeatherTemplateRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-@Transactional
 public class WeatherDataService {
 
+    private static final String MEDIUM_TERM_MODE_BULK = "bulk";
+
+    // 단기 예보 요청 단위 (같은 격자·발표시각의 지역은 한 번만 조회)
+    private record ShortTermGridCell(int nx, int ny, String baseDate, String baseTime) {
+    }
+
     private final WeatherApiService weatherApiService;
+    private final RegionIngestionEngine regionIngestionEngine;
+    private final MediumTermForecastCoalescer mediumTermForecastCoalescer;
+    private final ForecastFingerprintStore forecastFingerprintStore;
+    private final IngestionDeadLetterQueue ingestionDeadLetterQueue;
+    private final ForecastPartitionManager forecastPartitionManager;
+    private final TransactionTemplate transactionTemplate;
     private final RegionRepository regionRepository;
     private final RawShortTermWeatherRepository rawShortTermWeatherRepository;
     private final RawMediumTermWeatherRepository rawMediumTermWeatherRepository;
-    private final WeatherTemplateRepository weatherTemplateRepository;
+    private final WeatherTemplateRegistry weatherTemplateRegistry;
     private final DailyRecommendationRepository dailyRecommendationRepository;
+    private final RecommendationReadModel recommendationReadModel;
+
+    // 중기 예보 수집 방식 (per-region: 지역코드별 조회, bulk: 전국 1회 조회 후 분배)
+    @Value("${weather.medium-term.mode:per-region}")
+    private String mediumTermMode;
+
+    // 원시 예보 보존 기간(일)과 정리 시 한 번에 삭제할 최대 건수
+    @Value("${weather.retention.days:7}")
+    private int retentionDays;
+
+    @Value("${weather.retention.chunk-size:5000}")
+    private int retentionChunkSize;
 
     /**
      * 단기 예보 데이터 업데이트 (0-2일차)
-     * 3시간마다 실행
+     * 3시간마다 실행, 모든 지역 처리가 끝난 뒤 실행 결과 반환
+     * 같은 격자(nx, ny)와 발표시각을 쓰는 지역은 한 번만 조회하여 결과를 공유
      */
-    @Transactional
-    public void updateShortTermWeatherData() {
+    public WeatherResDTO.IngestionResult updateShortTermWeatherData() {
         log.info("단기 예보 데이터 업데이트 시작");
 
+        return regionIngestionEngine.runGrouped(
+                "단기 예보", groupByGridCell(regionRepository.findAll()), this::updateShortTermWeatherForCell);
+    }
+
+    /**
+     * 중기 예보 데이터 업데이트 (3-6일차)
+     * 12시간마다 실행, 모든 지역 처리가 끝난 뒤 실행 결과 반환
+     * bulk 모드에서는 엔드포인트별로 전국 데이터를 한 번만 조회
+     */
+    public WeatherResDTO.IngestionResult updateMediumTermWeatherData() {
+        log.info("중기 예보 데이터 업데이트 시작 - 모드: {}", mediumTermMode);
+
         List<Region> regions = regionRepository.findAll();
 
-        for (Region region : regions) {
-            try {
-                updateShortTermWeatherForRegion(region)
-                        .doOnSuccess(success -> log.info("지역 {} 단기 예보 업데이트 완료", region.getName()))
-                        .doOnError(error -> log.error("지역 {} 단기 예보 업데이트 실패: {}", region.getName(), error.getMessage()))
-                        .subscribe();
-            } catch (Exception e) {
-                log.error("지역 {} 단기 예보 처리 중 오류: {}", region.getName(), e.getMessage());
-            }
+        if (MEDIUM_TERM_MODE_BULK.equalsIgnoreCase(mediumTermMode)) {
+            return updateMediumTermWeatherDataInBulk(regions);
         }
+
+        return updateMediumTermWeatherPerRegion("중기 예보", regions);
     }
 
     /**
-     * 중기 예보 데이터 업데이트 (3-6일차)
-     * 12시간마다 실행
+     * 수집 실패 대기 목록 재처리
+     * 재처리 시각이 된 지역만 예보 종류별로 다시 수집하며, 성공한 지역은 대기 목록에서 제거됨
      */
-    @Transactional
-    public void updateMediumTermWeatherData() {
-        log.info("중기 예보 데이터 업데이트 시작");
+    public List<WeatherResDTO.IngestionResult> retryDeadLetters() {
+        if (!ingestionDeadLetterQueue.hasPending()) {
+            return List.of();
+        }
 
-        List<Region> regions = regionRepository.findAll();
+        Map<ForecastProduct, List<Region>> regionsByProduct = ingestionDeadLetterQueue.findDue().stream()
+                .collect(Collectors.groupingBy(
+                        IngestionDeadLetter::getProduct,
+                        () -> new EnumMap<>(ForecastProduct.class),
+                        Collectors.mapping(IngestionDeadLetter::getRegion, Collectors.toList())));
 
-        for (Region region : regions) {
-            try {
-                updateMediumTermWeatherForRegion(region)
-                        .doOnSuccess(success -> log.info("지역 {} 중기 예보 업데이트 완료", region.getName()))
-                        .doOnError(error -> log.error("지역 {} 중기 예보 업데이트 실패: {}", region.getName(), error.getMessage()))
-                        .subscribe();
-            } catch (Exception e) {
-                log.error("지역 {} 중기 예보 처리 중 오류: {}", region.getName(), e.getMessage());
-            }
+        List<WeatherResDTO.IngestionResult> results = new ArrayList<>();
+
+        List<Region> shortTermRegions = regionsByProduct.get(ForecastProduct.SHORT_TERM);
+        if (shortTermRegions != null) {
+            results.add(regionIngestionEngine.runGrouped(
+                    "단기 예보 재처리", groupByGridCell(shortTermRegions), this::updateShortTermWeatherForCell));
+        }
+
+        List<Region> mediumTermRegions = regionsByProduct.get(ForecastProduct.MEDIUM_TERM);
+        if (mediumTermRegions != null) {
+            results.add(updateMediumTermWeatherPerRegion("중기 예보 재처리", mediumTermRegions));
         }
+        return results;
     }
 
     /**
-     * 특정 지역의 단기 예보 업데이트
+     * 지역코드별 중기 예보 수집 (같은 지역코드의 API 호출은 실행 동안 병합)
      */
-    private Mono<Void> updateShortTermWeatherForRegion(Region region) {
+    private WeatherResDTO.IngestionResult updateMediumTermWeatherPerRegion(String runName, List<Region> regions) {
+        try (MediumTermForecastCoalescer.Run run = mediumTermForecastCoalescer.open()) {
+            return regionIngestionEngine.run(runName, regions, region ->
+                    updateMediumTermWeatherForRegion(run, region)
+                            .doOnSuccess(outcome -> log.info("지역 {} 중기 예보 업데이트 {}", region.getName(), outcome))
+                            .onErrorResume(error -> deadLetter(region, ForecastProduct.MEDIUM_TERM, error)));
+        }
+    }
+
+    /**
+     * 현재 발표시각 기준으로 지역을 격자 단위 요청으로 묶음
+     */
+    private Map<ShortTermGridCell, List<Region>> groupByGridCell(List<Region> regions) {
         String baseDate = LocalDate.now().toString().replace("-", "");
         String baseTime = getCurrentBaseTime();
 
-        return weatherApiService.getShortTermWeather(
-                        baseDate, baseTime,
-                        region.getGridX().intValue(),
-                        region.getGridY().intValue())
-                .flatMap(response -> {
-                    processShortTermWeatherResponse(response, region);
-                    updateDailyRecommendationsForShortTerm(region);
-                    return Mono.empty();
-                });
+        return regions.stream()
+                .collect(Collectors.groupingBy(
+                        region -> new ShortTermGridCell(
+                                region.getGridX().intValue(), region.getGridY().intValue(), baseDate, baseTime),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+    }
+
+    /**
+     * 전국 중기 예보를 기온/육상 각 1회 조회한 뒤 REG_ID로 조인하여 지역코드별로 분배
+     * 전국 응답의 내용 지문이 이전 저장분과 같은 지역은 건너뛰며, 파싱·조인은 저장할 지역이 있을 때만 한 번 수행
+     */
+    private WeatherResDTO.IngestionResult updateMediumTermWeatherDataInBulk(List<Region> regions) {
+        String tmFc = MediumTermForecastCoalescer.currentTmFc().toString();
+
+        Mono<Tuple2<WeatherResDTO.Typ01Payload, WeatherResDTO.Typ01Payload>> payloads = Mono.zip(
+                        weatherApiService.fetchMediumTermTemperature(null),
+                        weatherApiService.fetchMediumTermLandWeather(null))
+                .cache();
+
+        Mono<Map<String, List<WeatherResDTO.MediumTermForecastRow>>> rowsByRegCode = payloads
+                .map(tuple -> joinMediumTermForecast(tuple.getT1(), tuple.getT2()))
+                .doOnNext(rows -> log.info("전국 중기 예보 조인 완료 - 지역코드 {}개", rows.size()))
+                .cache();
+
+        return regionIngestionEngine.run("중기 예보(bulk)", regions, region ->
+                payloads
+                        .flatMap(tuple -> {
+                            long fingerprint = ContentFingerprint.combine(
+                                    tuple.getT1().fingerprint(), tuple.getT2().fingerprint());
+
+                            if (forecastFingerprintStore.isUnchanged(
+                                    region.getId(), ForecastProduct.MEDIUM_TERM, tmFc, fingerprint)) {
+                                return Mono.fromCallable(() -> completeRegion(IngestionOutcome.UNCHANGED,
+                                                region, ForecastProduct.MEDIUM_TERM, tmFc, fingerprint))
+                                        .subscribeOn(Schedulers.boundedElastic());
+                            }
+                            return rowsByRegCode
+                                    .publishOn(Schedulers.boundedElastic())
+                                    .map(rows -> completeRegion(
+                                            persistMediumTermWeather(rows.getOrDefault(region.getRegCode(), List.of()), region),
+                                            region, ForecastProduct.MEDIUM_TERM, tmFc, fingerprint));
+                        })
+                        .doOnSuccess(outcome -> log.info("지역 {} 중기 예보 업데이트 {}", region.getName(), outcome))
+                        .onErrorResume(error -> deadLetter(region, ForecastProduct.MEDIUM_TERM, error)));
+    }
+
+    /**
+     * 격자 단위 단기 예보 업데이트
+     * 스트리밍으로 한 번에 피벗한 예보 시각별 표를 격자에 속한 지역마다 저장하며,
+     * 저장은 blocking JDBC 작업이므로 boundedElastic 스케줄러에서 지역 단위 트랜잭션으로 실행
+     * 조회가 재시도 후에도 실패하면 격자의 모든 지역을 수집 실패 대기 목록에 등록
+     */
+    private Flux<IngestionOutcome> updateShortTermWeatherForCell(ShortTermGridCell cell, List<Region> regions) {
+        String baseDateTime = cell.baseDate() + cell.baseTime();
+
+        return weatherApiService.getShortTermWeather(cell.baseDate(), cell.baseTime(), cell.nx(), cell.ny())
+                .publishOn(Schedulers.boundedElastic())
+                .flatMapIterable(forecast -> regions.stream()
+                        .map(region -> persistShortTermWeather(
+                                forecast.table(), region, baseDateTime, forecast.fingerprint()))
+                        .toList())
+                .onErrorResume(error -> Flux.fromIterable(regions)
+                        .concatMap(region -> deadLetter(region, ForecastProduct.SHORT_TERM, error)));
+    }
+
+    /**
+     * 예보 시각별 행을 지역 단위 트랜잭션으로 저장하고 추천 정보 갱신 (지역별 오류는 FAILED로 반환)
+     * 같은 발표분을 같은 내용으로 이미 저장한 지역은 UNCHANGED로 건너뜀
+     */
+    private IngestionOutcome persistShortTermWeather(
+            ShortTermForecastTable table, Region region, String baseDateTime, long fingerprint) {
+
+        if (forecastFingerprintStore.isUnchanged(
+                region.getId(), ForecastProduct.SHORT_TERM, baseDateTime, fingerprint)) {
+            log.debug("지역 {} 단기 예보 변경 없음", region.getName());
+            return completeRegion(
+                    IngestionOutcome.UNCHANGED, region, ForecastProduct.SHORT_TERM, baseDateTime, fingerprint);
+        }
+
+        try {
+            IngestionOutcome outcome = transactionTemplate.execute(status -> {
+                if (!processShortTermWeatherResponse(table, region)) {
+                    return IngestionOutcome.SKIPPED;
+                }
+                updateDailyRecommendationsForShortTerm(region);
+                return IngestionOutcome.SUCCEEDED;
+            });
+            log.info("지역 {} 단기 예보 업데이트 {}", region.getName(), outcome);
+            return completeRegion(outcome, region, ForecastProduct.SHORT_TERM, baseDateTime, fingerprint);
+        } catch (Exception e) {
+            log.error("지역 {} 단기 예보 업데이트 실패: {}", region.getName(), e.getMessage());
+            ingestionDeadLetterQueue.record(region, ForecastProduct.SHORT_TERM, e);
+            return IngestionOutcome.FAILED;
+        }
     }
 
     /**
      * 특정 지역의 중기 예보 업데이트
+     * 같은 지역코드를 쓰는 지역끼리는 API 호출과 파싱·조인 결과를 공유하고, 응답 내용 지문이 바뀐 경우에만 저장
      */
-    private Mono<Void> updateMediumTermWeatherForRegion(Region region) {
-        String regCode = region.getRegCode();
-
-        return Mono.zip(
-                        weatherApiService.getMediumTermTemperature(regCode),
-                        weatherApiService.getMediumTermLandWeather(regCode))
-                .flatMap(tuple -> {
-                    WeatherResDTO.MediumTermTemperatureResponse tempResponse = tuple.getT1();
-                    WeatherResDTO.MediumTermLandWeatherResponse landResponse = tuple.getT2();
-
-                    processMediumTermWeatherResponse(tempResponse, landResponse, region);
-                    updateDailyRecommendationsForMediumTerm(region);
-                    return Mono.empty();
+    private Mono<IngestionOutcome> updateMediumTermWeatherForRegion(MediumTermForecastCoalescer.Run run, Region region) {
+        String tmFc = run.tmFc().toString();
+
+        return run.fetchForecast(region.getRegCode(), (temperature, land) ->
+                        joinMediumTermForecast(temperature, land).values().stream().flatMap(List::stream).toList())
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(forecast -> {
+                    if (forecastFingerprintStore.isUnchanged(
+                            region.getId(), ForecastProduct.MEDIUM_TERM, tmFc, forecast.fingerprint())) {
+                        return Mono.just(completeRegion(IngestionOutcome.UNCHANGED,
+                                region, ForecastProduct.MEDIUM_TERM, tmFc, forecast.fingerprint()));
+                    }
+                    return forecast.rows()
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(rows -> completeRegion(persistMediumTermWeather(rows, region),
+                                    region, ForecastProduct.MEDIUM_TERM, tmFc, forecast.fingerprint()));
                 });
     }
 
     /**
-     * 단기 예보 응답 처리
+     * 중기 기온·육상 응답 본문을 파싱하여 REG_ID별 예보 행으로 조인
      */
-    private void processShortTermWeatherResponse(
-            WeatherResDTO.ShortTermWeatherResponse response, Region region) {
+    private Map<String, List<WeatherResDTO.MediumTermForecastRow>> joinMediumTermForecast(
+            WeatherResDTO.Typ01Payload temperature, WeatherResDTO.Typ01Payload land) {
 
-        if (response.response().body().items() == null ||
-                response.response().body().items().item() == null) {
-            log.warn("단기 예보 응답 데이터가 비어있음 - 지역: {}", region.getName());
-            return;
+        return MediumTermForecastJoiner.joinByRegId(
+                itemsOf(weatherApiService.parseMediumTermTemperatureResponse(temperature)),
+                itemsOf(weatherApiService.parseMediumTermLandWeatherResponse(land)));
+    }
+
+    /**
+     * 지역 처리 완료 후 정리: 저장에 성공한 경우 응답 내용 지문 기록 및 읽기 모델 교체, 실패 대기 목록에 있던 지역은 제거
+     */
+    private IngestionOutcome completeRegion(IngestionOutcome outcome, Region region,
+                                            ForecastProduct product,
+                                            String baseTime, long fingerprint) {
+        if (outcome == IngestionOutcome.SUCCEEDED) {
+            forecastFingerprintStore.record(region.getId(), product, baseTime, fingerprint);
+            recommendationReadModel.refresh(region.getId());
+        }
+        if (outcome != IngestionOutcome.FAILED) {
+            ingestionDeadLetterQueue.resolve(region, product);
         }
+        return outcome;
+    }
 
-        List<WeatherResDTO.ShortTermWeatherItem> items = response.response().body().items().item();
+    /**
+     * 재시도 후에도 실패한 지역을 수집 실패 대기 목록에 등록 (blocking JDBC 작업이므로 boundedElastic에서 실행)
+     * 서킷 브레이커가 열려 호출하지 못한 경우 기존 추천 정보는 덮어쓰지 않고 stale로 표시
+     */
+    private Mono<IngestionOutcome> deadLetter(Region region, ForecastProduct product, Throwable error) {
+        log.error("지역 {} {} 업데이트 실패: {}", region.getName(), product, error.getMessage());
+
+        return Mono.fromCallable(() -> {
+                    if (error instanceof KmaCircuitOpenException) {
+                        markRecommendationsStale(region, product);
+                    }
+                    ingestionDeadLetterQueue.record(region, product, error);
+                    return IngestionOutcome.FAILED;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
 
-        // 날짜별로 그룹화하여 처리
-        Map<String, List<WeatherResDTO.ShortTermWeatherItem>> itemsByDate = items.stream()
-                .collect(Collectors.groupingBy(WeatherResDTO.ShortTermWeatherItem::fcstDate));
+    /**
+     * 예보 종류가 담당하는 날짜 범위(단기: 0-2일차, 중기: 3-6일차)의 추천 정보를 stale로 표시
+     * 내용 지문도 지워, 복구 후 같은 발표분이 같은 내용으로 와도 추천을 다시 계산해 stale을 해제하도록 함
+     */
+    private void markRecommendationsStale(Region region, ForecastProduct product) {
+        forecastFingerprintStore.invalidate(region.getId(), product);
 
-        for (Map.Entry<String, List<WeatherResDTO.ShortTermWeatherItem>> entry : itemsByDate.entrySet()) {
-            String dateStr = entry.getKey();
-            List<WeatherResDTO.ShortTermWeatherItem> dateItems = entry.getValue();
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = product == ForecastProduct.SHORT_TERM ? today : today.plusDays(3);
+        LocalDate endDate = product == ForecastProduct.SHORT_TERM ? today.plusDays(2) : today.plusDays(6);
 
-            // 해당 날짜의 대표 시간대 데이터만 추출 (예: 12시)
-            Optional<WeatherResDTO.ShortTermWeatherItem> representativeItem =
-                    findRepresentativeItem(dateItems);
+        Integer marked = transactionTemplate.execute(status ->
+                dailyRecommendationRepository.markStale(region.getId(), startDate, endDate));
+        log.warn("지역 {} 추천 정보 stale 표시 - {}건 ({} ~ {})", region.getName(), marked, startDate, endDate);
 
-            if (representativeItem.isPresent()) {
-                RawShortTermWeather weather = WeatherConverter.toRawShortTermWeather(
-                        representativeItem.get(), region);
+        if (marked != null && marked > 0) {
+            recommendationReadModel.refresh(region.getId());
+        }
+    }
 
-                // Upsert 로직
-                rawShortTermWeatherRepository.save(weather);
+    /**
+     * 조인된 중기 예보 행을 지역 단위 트랜잭션으로 저장하고 추천 정보 갱신
+     */
+    private IngestionOutcome persistMediumTermWeather(List<WeatherResDTO.MediumTermForecastRow> rows, Region region) {
+        return transactionTemplate.execute(status -> {
+            if (!processMediumTermWeatherResponse(rows, region)) {
+                return IngestionOutcome.SKIPPED;
             }
+            updateDailyRecommendationsForMediumTerm(region);
+            return IngestionOutcome.SUCCEEDED;
+        });
+    }
+
+    /**
+     * 단기 예보 응답 처리 (예보 시각별 행 저장)
+     * 저장할 데이터가 없으면 false 반환
+     */
+    private boolean processShortTermWeatherResponse(ShortTermForecastTable table, Region region) {
+        if (table.isEmpty()) {
+            log.warn("단기 예보 응답 데이터가 비어있음 - 지역: {}", region.getName());
+            return false;
         }
+
+        // (지역, 발표일시, 예보일시) 기준 upsert
+        rawShortTermWeatherRepository.upsertAll(WeatherConverter.toRawShortTermWeathers(table, region));
+        return true;
     }
 
     /**
-     * 중기 예보 응답 처리
+     * 중기 예보 응답 처리 (REG_ID, TM_EF로 조인된 행 저장)
+     * 저장할 데이터가 없으면 false 반환
      */
-    private void processMediumTermWeatherResponse(
-            WeatherResDTO.MediumTermTemperatureResponse tempResponse,
-            WeatherResDTO.MediumTermLandWeatherResponse landResponse,
-            Region region) {
+    private boolean processMediumTermWeatherResponse(
+            List<WeatherResDTO.MediumTermForecastRow> rows, Region region) {
 
-        if (tempResponse.response().body().items() == null ||
-                landResponse.response().body().items() == null) {
+        if (rows.isEmpty()) {
             log.warn("중기 예보 응답 데이터가 비어있음 - 지역: {}", region.getName());
-            return;
+            return false;
         }
 
-        List<WeatherResDTO.MediumTermTemperatureItem> tempItems =
-                tempResponse.response().body().items().item();
-        List<WeatherResDTO.MediumTermLandWeatherItem> landItems =
-                landResponse.response().body().items().item();
+        List<RawMediumTermWeather> weathers = rows.stream()
+                .map(row -> WeatherConverter.toRawMediumTermWeather(row.temperature(), row.land(), region))
+                .toList();
 
-        // 기온과 육상 예보 데이터를 매칭하여 저장
-        for (int i = 0; i < Math.min(tempItems.size(), landItems.size()); i++) {
-            WeatherResDTO.MediumTermTemperatureItem tempItem = tempItems.get(i);
-            WeatherResDTO.MediumTermLandWeatherItem landItem = landItems.get(i);
+        // (지역, 발표시각, 발효시각) 기준 upsert
+        rawMediumTermWeatherRepository.upsertAll(weathers);
+        return true;
+    }
 
-            RawMediumTermWeather weather = WeatherConverter.toRawMediumTermWeather(
-                    tempItem, landItem, region);
+    private List<WeatherResDTO.MediumTermTemperatureItem> itemsOf(
+            WeatherResDTO.MediumTermTemperatureResponse response) {
+        WeatherResDTO.MediumTermTemperatureResponse.Items items = response.response().body().items();
+        return items != null && items.item() != null ? items.item() : List.of();
+    }
 
-            // Upsert 로직
-            rawMediumTermWeatherRepository.save(weather);
-        }
+    private List<WeatherResDTO.MediumTermLandWeatherItem> itemsOf(
+            WeatherResDTO.MediumTermLandWeatherResponse response) {
+        WeatherResDTO.MediumTermLandWeatherResponse.Items items = response.response().body().items();
+        return items != null && items.item() != null ? items.item() : List.of();
     }
 
     /**
      * 단기 예보 기반 일일 추천 업데이트
      */
     private void updateDailyRecommendationsForShortTerm(Region region) {
-        LocalDate today = LocalDate.now();
-
-        for (int i = 0; i <= 2; i++) { // 0-2일차
-            LocalDate targetDate = today.plusDays(i);
-            updateDailyRecommendation(region, targetDate, true);
-        }
+        recomputeDailyRecommendations(region, 0, 2, true); // 0-2일차
     }
 
     /**
      * 중기 예보 기반 일일 추천 업데이트
      */
     private void updateDailyRecommendationsForMediumTerm(Region region) {
-        LocalDate today = LocalDate.now();
-
-        for (int i = 3; i <= 6; i++) { // 3-6일차
-            LocalDate targetDate = today.plusDays(i);
-            updateDailyRecommendation(region, targetDate, false);
-        }
+        recomputeDailyRecommendations(region, 3, 6, false); // 3-6일차
     }
 
     /**
-     * 일일 추천 정보 업데이트
+     * 지역의 일일 추천 정보 일괄 갱신 (호출자 트랜잭션 안에서 실행)
+     * 기간 내 추천 정보를 한 번에 조회하여 영속 상태의 엔티티를 직접 변경하고(템플릿이 같으면 변경 없음),
+     * 없는 날짜만 새로 저장하여 커밋 시 변경분이 한 번의 flush로 배치 전송되도록 함
      */
-    private void updateDailyRecommendation(Region region, LocalDate targetDate, boolean isShortTerm) {
-        try {
-            WeatherTemplate template;
-
-            if (isShortTerm) {
-                // 단기 예보 데이터에서 템플릿 생성
-                template = createTemplateFromShortTermData(region, targetDate);
-            } else {
-                // 중기 예보 데이터에서 템플릿 생성
-                template = createTemplateFromMediumTermData(region, targetDate);
-            }
-
-            if (template != null) {
-                // 기존 추천 정보 조회 또는 생성
-                Optional<DailyRecommendation> existingRecommendation =
-                        dailyRecommendationRepository.findByRegionIdAndForecastDate(region.getId(), targetDate);
-
-                DailyRecommendation recommendation;
-                if (existingRecommendation.isPresent()) {
-                    recommendation = existingRecommendation.get();
-                    // 템플릿만 업데이트 (Builder 패턴이므로 새로 생성)
-                    recommendation = DailyRecommendation.builder()
-                            .id(recommendation.getId())
-                            .region(region)
-                            .weatherTemplate(template)
-                            .forecastDate(targetDate)
-                            .updatedAt(LocalDateTime.now())
-                            .build();
-                } else {
-                    recommendation = DailyRecommendation.builder()
-                            .region(region)
-                            .weatherTemplate(template)
-                            .forecastDate(targetDate)
-                            .updatedAt(LocalDateTime.now())
-                            .build();
-                }
-
-                dailyRecommendationRepository.save(recommendation);
-                log.info("일일 추천 정보 업데이트 완료 - 지역: {}, 날짜: {}", region.getName(), targetDate);
+    private void recomputeDailyRecommendations(Region region, int fromDay, int toDay, boolean isShortTerm) {
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.plusDays(fromDay);
+        LocalDate endDate = today.plusDays(toDay);
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<LocalDate, DailyRecommendation> existing = dailyRecommendationRepository
+                .findByRegionIdAndForecastDateBetweenOrderByForecastDate(region.getId(), startDate, endDate)
+                .stream()
+                .collect(Collectors.toMap(DailyRecommendation::getForecastDate, dr -> dr, (first, second) -> first));
+
+        List<DailyRecommendation> created = new ArrayList<>();
+        int changed = 0;
+
+        for (LocalDate targetDate = startDate; !targetDate.isAfter(endDate); targetDate = targetDate.plusDays(1)) {
+            WeatherTemplate template = isShortTerm
+                    ? createTemplateFromShortTermData(region, targetDate)
+                    : createTemplateFromMediumTermData(region, targetDate);
+
+            DailyRecommendation recommendation = existing.get(targetDate);
+            if (recommendation == null) {
+                created.add(DailyRecommendation.builder()
+                        .region(region)
+                        .weatherTemplate(template)
+                        .forecastDate(targetDate)
+                        .updatedAt(now)
+                        .build());
+            } else if (recommendation.changeTemplate(template, now)) {
+                changed++;
             }
-        } catch (Exception e) {
-            log.error("일일 추천 정보 업데이트 실패 - 지역: {}, 날짜: {}, 오류: {}",
-                    region.getName(), targetDate, e.getMessage());
         }
+
+        dailyRecommendationRepository.saveAll(created);
+        log.info("일일 추천 정보 업데이트 완료 - 지역: {}, 기간: {} ~ {}, 신규: {}, 변경: {}, 유지: {}",
+                region.getName(), startDate, endDate, created.size(), changed, existing.size() - changed);
     }
 
     /**
@@ -265,7 +465,7 @@ public class WeatherDataService {
         double precipitation = 0.0;
         String skyCondition = "맑음";
 
-        return findOrCreateWeatherTemplate(temperature, precipitation, skyCondition);
+        return resolveWeatherTemplate(temperature, precipitation, skyCondition);
     }
 
     /**
@@ -278,32 +478,19 @@ public class WeatherDataService {
         double precipitation = 0.0;
         String skyCondition = "구름많음";
 
-        return findOrCreateWeatherTemplate(temperature, precipitation, skyCondition);
+        return resolveWeatherTemplate(temperature, precipitation, skyCondition);
     }
 
     /**
-     * 날씨 템플릿 조회 또는 생성
+     * 날씨 값에 해당하는 템플릿 참조 (레지스트리에서 조회, DB 조회 없음)
      */
-    private WeatherTemplate findOrCreateWeatherTemplate(
+    private WeatherTemplate resolveWeatherTemplate(
             double temperature, double precipitation, String skyCondition) {
 
-        TempCategory tempCategory = determineTempCategory(temperature);
-        PrecipCategory precipCategory = determinePrecipCategory(precipitation);
-        WeatherType weatherType = determineWeatherType(skyCondition);
-
-        // 기존 템플릿 조회
-        Optional<WeatherTemplate> existingTemplate = weatherTemplateRepository
-                .findByWeatherAndTempCategoryAndPrecipCategory(weatherType, tempCategory, precipCategory);
-
-        if (existingTemplate.isPresent()) {
-            return existingTemplate.get();
-        }
-
-        // 새 템플릿 생성
-        WeatherTemplate newTemplate = WeatherConverter.createWeatherTemplate(
-                temperature, precipitation, skyCondition);
-
-        return weatherTemplateRepository.save(newTemplate);
+        return weatherTemplateRegistry.reference(
+                determineWeatherType(skyCondition),
+                determineTempCategory(temperature),
+                determinePrecipCategory(precipitation));
     }
 
     // === 유틸리티 메서드들 ===
@@ -329,18 +516,6 @@ public class WeatherDataService {
         return String.format("%02d00", baseHour);
     }
 
-    /**
-     * 대표 시간대 아이템 찾기 (12시 기준)
-     */
-    private Optional<WeatherResDTO.ShortTermWeatherItem> findRepresentativeItem(
-            List<WeatherResDTO.ShortTermWeatherItem> items) {
-
-        return items.stream()
-                .filter(item -> "1200".equals(item.fcstTime()))
-                .findFirst()
-                .or(() -> items.stream().findFirst());
-    }
-
     // 카테고리 결정 메서드들 (Converter와 동일한 로직)
     private TempCategory determineTempCategory(Double temperature) {
         if (temperature <= 10) return TempCategory.CHILLY;
@@ -362,38 +537,60 @@ public class WeatherDataService {
     }
 
     /**
-     * 오래된 데이터 정리 (7일 이전 데이터 삭제)
+     * 오래된 데이터 정리 (보존 기간 이전 데이터 삭제)
+     * 일 단위 파티션 테이블이면 기준일 이전 파티션을 DROP 하고(단기: fcst_date, 중기: tmef 기준),
+     * 아니면 엔티티를 읽지 않고 LIMIT을 건 DELETE를 청크 단위로 반복하며 청크마다 커밋하여
+     * 잠금 시간과 메모리 사용량이 삭제 대상 건수와 무관하게 유지되도록 함
      */
-    @Transactional
-    public void cleanupOldData() {
-        log.info("오래된 날씨 데이터 정리 시작");
-
-        LocalDate cutoffDate = LocalDate.now().minusDays(7);
+    public List<WeatherResDTO.RetentionResult> cleanupOldData() {
+        LocalDate cutoffDate = LocalDate.now().minusDays(retentionDays);
+        log.info("오래된 날씨 데이터 정리 시작 - 기준일: {}", cutoffDate);
 
-        try {
-            // 단기 예보 데이터 정리
-            List<RawShortTermWeather> oldShortTermData =
-                    rawShortTermWeatherRepository.findOldRecords(cutoffDate);
+        forecastPartitionManager.ensureFuturePartitions();
 
-            if (!oldShortTermData.isEmpty()) {
-                rawShortTermWeatherRepository.deleteAll(oldShortTermData);
-                log.info("오래된 단기 예보 데이터 {}건 삭제", oldShortTermData.size());
-            }
-
-            // 중기 예보 데이터 정리
-            List<RawMediumTermWeather> oldMediumTermData =
-                    rawMediumTermWeatherRepository.findOldRecords(cutoffDate);
-
-            if (!oldMediumTermData.isEmpty()) {
-                rawMediumTermWeatherRepository.deleteAll(oldMediumTermData);
-                log.info("오래된 중기 예보 데이터 {}건 삭제", oldMediumTermData.size());
-            }
+        return List.of(
+                purge(ForecastProduct.SHORT_TERM, "단기 예보", cutoffDate,
+                        limit -> rawShortTermWeatherRepository.deleteOldRecords(cutoffDate, limit)),
+                purge(ForecastProduct.MEDIUM_TERM, "중기 예보", cutoffDate,
+                        limit -> rawMediumTermWeatherRepository.deleteOldRecords(cutoffDate, limit)));
+    }
 
-            log.info("오래된 날씨 데이터 정리 완료");
+    private WeatherResDTO.RetentionResult purge(
+            ForecastProduct product, String target, LocalDate cutoffDate, IntUnaryOperator deleteChunk) {
 
-        } catch (Exception e) {
-            log.error("오래된 데이터 정리 중 오류: {}", e.getMessage());
-            throw e;
+        if (forecastPartitionManager.isPartitioned(product)) {
+            return forecastPartitionManager.dropPartitionsBefore(product, target, cutoffDate);
         }
+        return purgeInChunks(target, deleteChunk);
+    }
+
+    /**
+     * 삭제 건수가 청크 크기보다 작아질 때까지 청크 삭제 반복
+     */
+    private WeatherResDTO.RetentionResult purgeInChunks(String target, IntUnaryOperator deleteChunk) {
+        long startNanos = System.nanoTime();
+        long deleted = 0;
+        int chunks = 0;
+        int affected;
+
+        do {
+            affected = deleteChunk.applyAsInt(retentionChunkSize);
+            deleted += affected;
+            chunks++;
+        } while (affected >= retentionChunkSize);
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        WeatherResDTO.RetentionResult result = WeatherResDTO.RetentionResult.builder()
+                .target(target)
+                .strategy("chunked-delete")
+                .deleted(deleted)
+                .chunks(chunks)
+                .elapsedMs(elapsedNanos / 1_000_000)
+                .rowsPerSecond(elapsedNanos > 0 ? deleted * 1_000_000_000.0 / elapsedNanos : 0)
+                .build();
+
+        log.info("오래된 {} 데이터 {}건 삭제 - 청크: {}, {}ms, {}건/초",
+                target, deleted, chunks, result.elapsedMs(), String.format("%.0f", result.rowsPerSecond()));
+        return result;
     }
 }
@@ -1,11 +1,14 @@
 package com.study.demo.testplayground.domain.weather.service;
 
+import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import com.study.demo.testplayground.domain.weather.service.ingestion.ForecastFingerprintStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Component
 @Slf4j
@@ -13,6 +16,7 @@ import java.time.LocalDateTime;
 public class WeatherScheduler {
 
     private final WeatherDataService weatherDataService;
+    private final ForecastFingerprintStore forecastFingerprintStore;
 
     /**
      * 단기 예보 데이터 업데이트 스케줄러
@@ -27,15 +31,15 @@ public class WeatherScheduler {
         log.info("실행 시간: {}", LocalDateTime.now());
 
         try {
-            long startTime = System.currentTimeMillis();
-
-            weatherDataService.updateShortTermWeatherData();
-
-            long endTime = System.currentTimeMillis();
-            long executionTime = endTime - startTime;
+            WeatherResDTO.IngestionResult result = weatherDataService.updateShortTermWeatherData();
 
             log.info("=== 단기 예보 데이터 업데이트 완료 ===");
-            log.info("실행 시간: {}ms", executionTime);
+            log.info("실행 시간: {}ms, 전체: {}, 성공: {}, 실패: {}, 건너뜀: {}, 변경 없음: {}",
+                    result.elapsedMs(), result.total(), result.succeeded(), result.failed(), result.skipped(),
+                    result.unchanged());
+            log.info("내용 변경 없음으로 생략한 누적 저장: {}건", forecastFingerprintStore.avoidedWrites());
+            log.info("API 요청: {}건, 중복 제거율: {}%",
+                    result.fetches(), String.format("%.1f", result.dedupRatio() * 100));
 
         } catch (Exception e) {
             log.error("단기 예보 데이터 업데이트 중 오류 발생: {}", e.getMessage(), e);
@@ -55,25 +59,38 @@ public class WeatherScheduler {
         log.info("실행 시간: {}", LocalDateTime.now());
 
         try {
-            long startTime = System.currentTimeMillis();
-
-            weatherDataService.updateMediumTermWeatherData();
-
-            long endTime = System.currentTimeMillis();
-            long executionTime = endTime - startTime;
+            WeatherResDTO.IngestionResult result = weatherDataService.updateMediumTermWeatherData();
 
             log.info("=== 중기 예보 데이터 업데이트 완료 ===");
-            log.info("실행 시간: {}ms", executionTime);
+            log.info("실행 시간: {}ms, 전체: {}, 성공: {}, 실패: {}, 건너뜀: {}, 변경 없음: {}",
+                    result.elapsedMs(), result.total(), result.succeeded(), result.failed(), result.skipped(),
+                    result.unchanged());
+            log.info("내용 변경 없음으로 생략한 누적 저장: {}건", forecastFingerprintStore.avoidedWrites());
 
         } catch (Exception e) {
             log.error("중기 예보 데이터 업데이트 중 오류 발생: {}", e.getMessage(), e);
         }
     }
 
+    /**
+     * 수집 실패 지역 재처리 스케줄러
+     * 기본 5분 간격으로 실행, 재처리 시각이 된 지역만 다시 수집하여 다음 정기 수집까지 기다리지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${weather.dead-letter.drain-interval:PT5M}",
+            initialDelayString = "${weather.dead-letter.drain-interval:PT5M}")
+    public void retryFailedRegions() {
+        try {
+            List<WeatherResDTO.IngestionResult> results = weatherDataService.retryDeadLetters();
+            results.forEach(result -> log.info("수집 실패 지역 재처리 완료 - {}", result));
+        } catch (Exception e) {
+            log.error("수집 실패 지역 재처리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
     /**
      * 오래된 날씨 데이터 정리 스케줄러
      * 매일 새벽 2시에 실행
-     * 7일 이전 데이터 삭제
+     * 보존 기간(기본 7일) 이전 데이터 삭제
      */
     @Scheduled(cron = "0 0 2 * * *")
     public void cleanupOldWeatherData() {
@@ -83,14 +100,14 @@ public class WeatherScheduler {
         try {
             long startTime = System.currentTimeMillis();
 
-            // 실제 구현에서는 WeatherDataService에 cleanup 메서드 추가 필요
-            // weatherDataService.cleanupOldData();
+            List<WeatherResDTO.RetentionResult> results = weatherDataService.cleanupOldData();
 
             long endTime = System.currentTimeMillis();
             long executionTime = endTime - startTime;
 
             log.info("=== 오래된 날씨 데이터 정리 완료 ===");
-            log.info("실행 시간: {}ms", executionTime);
+            log.info("실행 시간: {}ms, 삭제: {}건",
+                    executionTime, results.stream().mapToLong(WeatherResDTO.RetentionResult::deleted).sum());
 
         } catch (Exception e) {
             log.error("오래된 날씨 데이터 정리 중 오류 발생: {}", e.getMessage(), e);
@@ -129,8 +146,8 @@ public class WeatherScheduler {
         log.info("실행 시간: {}", LocalDateTime.now());
 
         try {
-            weatherDataService.updateShortTermWeatherData();
-            log.info("수동 단기 예보 업데이트 완료");
+            WeatherResDTO.IngestionResult result = weatherDataService.updateShortTermWeatherData();
+            log.info("수동 단기 예보 업데이트 완료 - {}", result);
         } catch (Exception e) {
             log.error("수동 단기 예보 업데이트 실패: {}", e.getMessage(), e);
             throw new RuntimeException("수동 업데이트 실패", e);
@@ -146,11 +163,28 @@ public class WeatherScheduler {
         log.info("실행 시간: {}", LocalDateTime.now());
 
         try {
-            weatherDataService.updateMediumTermWeatherData();
-            log.info("수동 중기 예보 업데이트 완료");
+            WeatherResDTO.IngestionResult result = weatherDataService.updateMediumTermWeatherData();
+            log.info("수동 중기 예보 업데이트 완료 - {}", result);
         } catch (Exception e) {
             log.error("수동 중기 예보 업데이트 실패: {}", e.getMessage(), e);
             throw new RuntimeException("수동 업데이트 실패", e);
         }
     }
+
+    /**
+     * 수동 수집 실패 지역 재처리 트리거
+     * 전체 재수집 없이 실패한 지역만 다시 수집할 때 사용
+     */
+    public void manualRetryFailedRegions() {
+        log.info("=== 수동 수집 실패 지역 재처리 실행 ===");
+        log.info("실행 시간: {}", LocalDateTime.now());
+
+        try {
+            List<WeatherResDTO.IngestionResult> results = weatherDataService.retryDeadLetters();
+            log.info("수동 수집 실패 지역 재처리 완료 - {}", results);
+        } catch (Exception e) {
+            log.error("수동 수집 실패 지역 재처리 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("수동 재처리 실패", e);
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package com.study.demo.testplayground.domain.weather.service.ingestion;
+
+import com.study.demo.testplayground.domain.weather.entity.enums.ForecastProduct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (지역, 예보 종류, 발표시각)별 마지막으로 저장한 응답의 내용 지문
+ * 같은 발표분을 다시 수집했을 때 응답이 그대로면 파싱·저장·추천 갱신을 생략하기 위해 사용한다.
+ * 지역·예보 종류마다 가장 최근 발표분의 지문 하나만 유지하며, 애플리케이션 재시작 시 초기화된다.
+ */
+@Component
+@Slf4j
+public class ForecastFingerprintStore {
+
+    private record Key(Long regionId, ForecastProduct product) {
+    }
+
+    private record Entry(String baseTime, long fingerprint) {
+    }
+
+    // false면 항상 변경된 것으로 판단 (강제 재수집용)
+    @Value("${weather.ingestion.fingerprint.enabled:true}")
+    private boolean enabled;
+
+    private final Map<Key, Entry> fingerprints = new ConcurrentHashMap<>();
+    private final AtomicLong avoidedWrites = new AtomicLong();
+
+    /**
+     * 해당 발표분을 같은 내용으로 이미 저장했는지 여부 (true면 생략한 쓰기로 집계)
+     */
+    public boolean isUnchanged(Long regionId, ForecastProduct product, String baseTime, long fingerprint) {
+        if (!enabled) {
+            return false;
+        }
+
+        Entry entry = fingerprints.get(new Key(regionId, product));
+        boolean unchanged = entry != null
+                && entry.baseTime().equals(baseTime)
+                && entry.fingerprint() == fingerprint;
+
+        if (unchanged) {
+            avoidedWrites.incrementAndGet();
+        }
+        return unchanged;
+    }
+
+    /**
+     * 저장을 마친 응답의 지문 기록 (저장에 성공한 경우에만 호출)
+     */
+    public void record(Long regionId, ForecastProduct product, String baseTime, long fingerprint) {
+        fingerprints.put(new Key(regionId, product), new Entry(baseTime, fingerprint));
+    }
+
+    /**
+     * 지역·예보 종류의 지문 삭제 (추천 정보를 stale로 표시한 경우, 다음 수집에서 내용이 같아도 다시 저장해 stale을 해제)
+     */
+    public void invalidate(Long regionId, ForecastProduct product) {
+        fingerprints.remove(new Key(regionId, product));
+    }
+
+    /**
+     * 애플리케이션 시작 이후 지문이 같아 생략한 누적 쓰기 건수
+     */
+    public long avoidedWrites() {
+        return avoidedWrites.get();
+    }
+
+    /**
+     * 저장된 지문 전체 삭제 (다음 수집에서 모든 지역을 다시 저장)
+     */
+    public void clear() {
+        log.info("예보 내용 지문 초기화 - {}건", fingerprints.size());
+        fingerprints.clear();
+    }
+}
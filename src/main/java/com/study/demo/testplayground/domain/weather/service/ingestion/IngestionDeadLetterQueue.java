@@ -0,0 +1,158 @@
+package com.study.demo.testplayground.domain.weather.service.ingestion;
+
+import com.study.demo.testplayground.domain.weather.entity.IngestionDeadLetter;
+import com.study.demo.testplayground.domain.weather.entity.Region;
+import com.study.demo.testplayground.domain.weather.entity.enums.ForecastProduct;
+import com.study.demo.testplayground.domain.weather.repository.IngestionDeadLetterRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재시도 후에도 수집에 실패한 (지역, 예보 종류) 목록
+ * DB에 영속화하여 재시작 후에도 유지하며, 재처리 작업이 재처리 시각이 된 지역만 다시 수집한다.
+ * 대기 중인 키는 메모리에도 보관하여 정상 수집된 지역마다 DB를 조회하지 않도록 한다.
+ * 메모리의 키는 인스턴스마다 따로 있으므로, 재처리 여부를 판단할 때(hasPending) DB에서 다시 읽어 다른 인스턴스의 기록을 반영하고,
+ * 해소한 키는 삭제가 커밋된 뒤에만 메모리에서 지운다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class IngestionDeadLetterQueue {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final IngestionDeadLetterRepository ingestionDeadLetterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private record Key(Long regionId, ForecastProduct product) {
+    }
+
+    private final Set<Key> pendingKeys = ConcurrentHashMap.newKeySet();
+
+    // 재처리 간격: min-backoff부터 실패할 때마다 2배, max-backoff까지
+    @Value("${weather.dead-letter.min-backoff:PT5M}")
+    private Duration minBackoff;
+
+    @Value("${weather.dead-letter.max-backoff:PT1H}")
+    private Duration maxBackoff;
+
+    @PostConstruct
+    void loadPendingKeys() {
+        reloadPendingKeys();
+        log.info("수집 실패 대기 목록 로드 - {}건", pendingKeys.size());
+    }
+
+    /**
+     * 수집 실패 기록 (이미 있으면 실패 횟수 증가 후 재처리 시각 연기)
+     * 다른 스레드·인스턴스가 같은 키를 먼저 등록해 유니크 키 충돌이 나면 한 번 더 읽어 실패 횟수만 증가
+     */
+    public void record(Region region, ForecastProduct product, Throwable error) {
+        String message = abbreviate(error.getMessage());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> upsert(region, product, message));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("수집 실패 대기 목록 동시 등록 감지, 다시 기록: {}", e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> upsert(region, product, message));
+        }
+
+        pendingKeys.add(new Key(region.getId(), product));
+        log.warn("수집 실패 대기 목록 등록 - 지역: {}, 종류: {}, 오류: {}", region.getName(), product, message);
+    }
+
+    private void upsert(Region region, ForecastProduct product, String message) {
+        IngestionDeadLetter deadLetter = ingestionDeadLetterRepository
+                .findByRegionIdAndProduct(region.getId(), product)
+                .orElse(null);
+
+        if (deadLetter == null) {
+            ingestionDeadLetterRepository.saveAndFlush(IngestionDeadLetter.builder()
+                    .region(region)
+                    .product(product)
+                    .attempts(1)
+                    .lastError(message)
+                    .nextAttemptAt(LocalDateTime.now().plus(backoff(1)))
+                    .build());
+        } else {
+            deadLetter.recordFailure(message, LocalDateTime.now().plus(backoff(deadLetter.getAttempts() + 1)));
+        }
+    }
+
+    /**
+     * 수집에 성공한 지역을 대기 목록에서 제거 (대기 중이 아니면 DB 조회 없음)
+     * 메모리의 키는 삭제가 커밋된 뒤에 지워, 삭제·커밋이 실패하면 다음 성공 시 다시 삭제를 시도한다.
+     */
+    @Transactional
+    public void resolve(Region region, ForecastProduct product) {
+        Key key = new Key(region.getId(), product);
+        if (!pendingKeys.contains(key)) {
+            return;
+        }
+
+        int deleted = ingestionDeadLetterRepository.deleteByRegionIdAndProduct(region.getId(), product);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pendingKeys.remove(key);
+            }
+        });
+        log.info("수집 실패 대기 목록 해소 - 지역: {}, 종류: {}, 삭제: {}건", region.getName(), product, deleted);
+    }
+
+    /**
+     * 대기 중인 항목이 있는지 (다른 인스턴스가 등록·해소한 항목을 반영하도록 DB에서 키를 다시 읽음)
+     */
+    public boolean hasPending() {
+        reloadPendingKeys();
+        return !pendingKeys.isEmpty();
+    }
+
+    private void reloadPendingKeys() {
+        Set<Key> loaded = ingestionDeadLetterRepository.findAllKeys().stream()
+                .map(key -> new Key((Long) key[0], (ForecastProduct) key[1]))
+                .collect(Collectors.toSet());
+        pendingKeys.addAll(loaded);
+        pendingKeys.retainAll(loaded);
+    }
+
+    /**
+     * 재처리 시각이 된 항목 조회
+     */
+    @Transactional(readOnly = true)
+    public List<IngestionDeadLetter> findDue() {
+        return ingestionDeadLetterRepository.findDue(LocalDateTime.now());
+    }
+
+    /**
+     * attempts번째 실패 후 재처리까지의 대기 시간 (±20% 지터)
+     */
+    private Duration backoff(int attempts) {
+        long multiplier = 1L << Math.min(attempts - 1, 20);
+        long millis = Math.min(minBackoff.toMillis() * multiplier, maxBackoff.toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (millis * jitter));
+    }
+
+    private static String abbreviate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,11 @@
+package com.study.demo.testplayground.domain.weather.service.ingestion;
+
+/**
+ * 지역 단위 수집 작업의 처리 결과
+ */
+public enum IngestionOutcome {
+    SUCCEEDED,  // 저장 및 추천 갱신 완료
+    SKIPPED,    // 응답이 비어 있어 처리하지 않음
+    UNCHANGED,  // 이전 수집과 응답 내용이 같아 저장·추천 갱신 생략
+    FAILED      // API 호출 또는 저장 중 오류
+}
@@ -0,0 +1,140 @@
+package com.study.demo.testplayground.domain.weather.service.ingestion;
+
+import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import com.study.demo.testplayground.domain.weather.parser.ContentFingerprint;
+import com.study.demo.testplayground.domain.weather.service.WeatherApiService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * 중기 예보 요청 병합 (single-flight)
+ * 여러 지역이 같은 중기 지역코드를 공유하므로, 한 수집 실행 안에서 (엔드포인트, 지역코드)가 같은 요청은
+ * 진행 중인 하나의 Mono와 그 응답 본문, 파싱·조인한 예보 행을 함께 사용한다.
+ * 파싱·조인은 내용 지문이 바뀐 지역이 처음 행을 구독할 때 지역코드마다 한 번만 수행한다.
+ * 병합 상태는 수집 실행마다 open()으로 만든 Run이 따로 가지므로, 동시에 도는 실행(스케줄러와 재처리 등)끼리 서로 비우지 않는다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MediumTermForecastCoalescer {
+
+    private static final String TEMPERATURE = "fct_afs_wc";
+    private static final String LAND = "fct_afs_wl";
+    private static final String JOINED = "joined";
+
+    private final WeatherApiService weatherApiService;
+
+    private record FetchKey(String endpoint, String regCode) {
+    }
+
+    /**
+     * 지역코드의 기온·육상 응답 내용 지문과, 구독 시 한 번만 파싱·조인하는 예보 행
+     */
+    public record Forecast(long fingerprint, Mono<List<WeatherResDTO.MediumTermForecastRow>> rows) {
+    }
+
+    /**
+     * 수집 실행 하나의 병합 상태 시작 (발표시각은 시작 시점 기준으로 고정)
+     */
+    public Run open() {
+        return new Run(currentTmFc());
+    }
+
+    /**
+     * 수집 실행 하나의 병합 상태 (실행 종료 시 close()로 통계 기록)
+     */
+    public class Run implements AutoCloseable {
+
+        private final LocalDateTime tmFc;
+        private final Map<FetchKey, Mono<?>> inFlight = new ConcurrentHashMap<>();
+        private final AtomicLong requestCount = new AtomicLong();
+        private final AtomicLong fetchCount = new AtomicLong();
+
+        private Run(LocalDateTime tmFc) {
+            this.tmFc = tmFc;
+        }
+
+        public LocalDateTime tmFc() {
+            return tmFc;
+        }
+
+        /**
+         * 지역코드의 중기 예보 조회 (같은 지역코드 요청은 응답과 파싱·조인 결과까지 병합)
+         * parser는 기온·육상 응답 본문을 예보 행으로 변환하며, 반환된 rows를 처음 구독할 때 한 번만 호출된다.
+         */
+        public Mono<Forecast> fetchForecast(
+                String regCode,
+                BiFunction<WeatherResDTO.Typ01Payload, WeatherResDTO.Typ01Payload,
+                        List<WeatherResDTO.MediumTermForecastRow>> parser) {
+
+            return coalesce(new FetchKey(JOINED, regCode), () -> Mono.zip(
+                            fetchMediumTermTemperature(regCode),
+                            fetchMediumTermLandWeather(regCode))
+                    .map(tuple -> new Forecast(
+                            ContentFingerprint.combine(tuple.getT1().fingerprint(), tuple.getT2().fingerprint()),
+                            Mono.fromCallable(() -> parser.apply(tuple.getT1(), tuple.getT2())).cache())));
+        }
+
+        /**
+         * 중기 기온 예보 응답 본문 조회 (같은 지역코드 요청은 병합)
+         */
+        private Mono<WeatherResDTO.Typ01Payload> fetchMediumTermTemperature(String regCode) {
+            return coalesce(new FetchKey(TEMPERATURE, regCode),
+                    () -> weatherApiService.fetchMediumTermTemperature(regCode));
+        }
+
+        /**
+         * 중기 육상 예보 응답 본문 조회 (같은 지역코드 요청은 병합)
+         */
+        private Mono<WeatherResDTO.Typ01Payload> fetchMediumTermLandWeather(String regCode) {
+            return coalesce(new FetchKey(LAND, regCode),
+                    () -> weatherApiService.fetchMediumTermLandWeather(regCode));
+        }
+
+        @Override
+        public void close() {
+            log.info("중기 예보 요청 병합 - 발표시각: {}, 요청: {}건, 실제 API 호출: {}건",
+                    tmFc, requestCount.get(), fetchCount.get());
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> Mono<T> coalesce(FetchKey key, Supplier<Mono<T>> fetch) {
+            requestCount.incrementAndGet();
+
+            return (Mono<T>) inFlight.computeIfAbsent(key, k -> Mono.defer(() -> {
+                        fetchCount.incrementAndGet();
+                        return fetch.get();
+                    })
+                    // 실패한 요청은 공유하지 않고 다음 요청에서 다시 조회
+                    .doOnError(error -> inFlight.remove(k))
+                    .cache());
+        }
+    }
+
+    /**
+     * 현재 유효한 중기 예보 발표시각 (06시, 18시 발표)
+     */
+    public static LocalDateTime currentTmFc() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        if (now.getHour() < 6) {
+            return LocalDateTime.of(today.minusDays(1), LocalTime.of(18, 0));
+        } else if (now.getHour() < 18) {
+            return LocalDateTime.of(today, LocalTime.of(6, 0));
+        }
+        return LocalDateTime.of(today, LocalTime.of(18, 0));
+    }
+}
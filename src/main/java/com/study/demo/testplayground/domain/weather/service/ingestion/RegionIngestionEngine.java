@@ -0,0 +1,102 @@
+package com.study.demo.testplayground.domain.weather.service.ingestion;
+
+import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 지역 단위 수집 작업을 제한된 동시성으로 실행하고 전체 완료까지 대기하는 엔진
+ * 동시 실행 수(weather.ingestion.concurrency)는 동시에 진행하는 작업 단위의 상한이며,
+ * 실제 KMA API 동시 호출 수는 AdaptiveConcurrencyLimiter가 업스트림 상태에 맞춰 조절한다.
+ */
+@Component
+@Slf4j
+public class RegionIngestionEngine {
+
+    @Value("${weather.ingestion.concurrency:32}")
+    private int concurrency;
+
+    @Value("${weather.ingestion.run-timeout:PT30M}")
+    private Duration runTimeout;
+
+    /**
+     * 모든 작업 단위를 실행하고 실행 결과를 집계하여 반환
+     * 개별 작업의 오류는 FAILED로 집계되며 전체 실행을 중단시키지 않는다.
+     */
+    public <T> WeatherResDTO.IngestionResult run(
+            String runName, List<T> units, Function<T, Mono<IngestionOutcome>> task) {
+
+        log.info("{} 수집 시작 - 대상: {}건, 동시성: {}", runName, units.size(), concurrency);
+        long startTime = System.currentTimeMillis();
+
+        Flux<IngestionOutcome> outcomes = Flux.fromIterable(units)
+                .flatMap(unit -> Mono.defer(() -> task.apply(unit))
+                                .defaultIfEmpty(IngestionOutcome.SKIPPED)
+                                .onErrorResume(error -> {
+                                    log.error("{} 수집 작업 실패: {}", runName, error.getMessage());
+                                    return Mono.just(IngestionOutcome.FAILED);
+                                }),
+                        concurrency);
+
+        return collect(runName, units.size(), units.size(), outcomes, startTime);
+    }
+
+    /**
+     * 같은 요청으로 처리할 수 있는 지역을 묶어 그룹당 한 번만 작업을 실행
+     * 작업은 그룹 내 지역마다 결과를 하나씩 내보내야 하며, 지역별 오류는 작업 안에서 FAILED로 변환해야 한다.
+     * 작업 자체가 실패하면(예: API 호출 실패) 그룹 내 모든 지역을 FAILED로 집계한다.
+     */
+    public <K, R> WeatherResDTO.IngestionResult runGrouped(
+            String runName, Map<K, List<R>> groups, BiFunction<K, List<R>, Flux<IngestionOutcome>> task) {
+
+        int total = groups.values().stream().mapToInt(List::size).sum();
+        log.info("{} 수집 시작 - 대상: {}건, 요청 단위: {}건, 동시성: {}", runName, total, groups.size(), concurrency);
+        long startTime = System.currentTimeMillis();
+
+        Flux<IngestionOutcome> outcomes = Flux.fromIterable(groups.entrySet())
+                .flatMap(group -> Flux.defer(() -> task.apply(group.getKey(), group.getValue()))
+                                .onErrorResume(error -> {
+                                    log.error("{} 수집 작업 실패 - {}: {}", runName, group.getKey(), error.getMessage());
+                                    return Flux.fromIterable(
+                                            Collections.nCopies(group.getValue().size(), IngestionOutcome.FAILED));
+                                }),
+                        concurrency);
+
+        return collect(runName, total, groups.size(), outcomes, startTime);
+    }
+
+    private WeatherResDTO.IngestionResult collect(
+            String runName, int total, int fetches, Flux<IngestionOutcome> outcomes, long startTime) {
+
+        Map<IngestionOutcome, Long> counts = outcomes
+                .collect(() -> new EnumMap<IngestionOutcome, Long>(IngestionOutcome.class),
+                        (map, outcome) -> map.merge(outcome, 1L, Long::sum))
+                .block(runTimeout);
+
+        WeatherResDTO.IngestionResult result = WeatherResDTO.IngestionResult.builder()
+                .runName(runName)
+                .total(total)
+                .fetches(fetches)
+                .dedupRatio(total == 0 ? 0.0 : 1.0 - (double) fetches / total)
+                .succeeded(counts.getOrDefault(IngestionOutcome.SUCCEEDED, 0L))
+                .failed(counts.getOrDefault(IngestionOutcome.FAILED, 0L))
+                .skipped(counts.getOrDefault(IngestionOutcome.SKIPPED, 0L))
+                .unchanged(counts.getOrDefault(IngestionOutcome.UNCHANGED, 0L))
+                .elapsedMs(System.currentTimeMillis() - startTime)
+                .build();
+
+        log.info("{} 수집 완료 - {}", runName, result);
+        return result;
+    }
+}
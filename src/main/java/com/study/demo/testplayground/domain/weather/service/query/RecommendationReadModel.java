@@ -0,0 +1,190 @@
+package com.study.demo.testplayground.domain.weather.service.query;
+
+import com.study.demo.testplayground.domain.weather.converter.WeatherConverter;
+import com.study.demo.testplayground.domain.weather.dto.projection.DailyRecommendationRow;
+import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import com.study.demo.testplayground.domain.weather.repository.DailyRecommendationRepository;
+import com.study.demo.testplayground.domain.weather.service.template.WeatherTemplateRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지역별 7일 추천 정보 읽기 모델 (일일·주간 조회용 메모리 스냅샷)
+ * 지역마다 오늘부터 7일치 응답 DTO 배열을 불변 스냅샷으로 들고 있다가, 추천 정보가 바뀐 지역만 통째로 교체한다.
+ * 조회는 잠금 없이 현재 스냅샷을 읽으며, 스냅샷이 없거나 날짜가 바뀌어 오늘 기준이 아니면 비어 있는 결과를 돌려 DB 조회로 넘긴다.
+ * DB 조회와 스냅샷 생성은 맵 잠금 밖에서 하고, 교체 시에는 조회 순번만 비교해 먼저 시작한 조회가 나중 결과를 덮지 않게 한다.
+ *
+ * 갱신 시점: 기동 완료 시 전체, 수집 트랜잭션 커밋 후 해당 지역, 템플릿 다시 로드 후 전체
+ * 인스턴스마다 따로 유지하므로 다른 인스턴스의 수집 결과는 DB 조회로 스냅샷이 교체될 때 반영된다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RecommendationReadModel {
+
+    public static final int DAYS = 7;
+
+    // days[i] = startDate + i일의 추천 (없으면 null), sequence = 스냅샷을 만든 조회의 순번
+    private record RegionView(long sequence,
+                              LocalDate startDate,
+                              WeatherResDTO.DailyRecommendationInfo[] days,
+                              WeatherResDTO.WeeklyRecommendations weekly) {
+    }
+
+    private final DailyRecommendationRepository dailyRecommendationRepository;
+    private final WeatherTemplateRegistry weatherTemplateRegistry;
+
+    private final Map<Long, RegionView> views = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong loadSequence = new AtomicLong();
+
+    /**
+     * 모든 지역의 스냅샷 다시 생성 (한 번의 범위 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long sequence = beginLoad();
+        LocalDate startDate = LocalDate.now();
+        List<DailyRecommendationRow> rows = dailyRecommendationRepository.findRowsByForecastDateBetween(
+                startDate, startDate.plusDays(DAYS - 1));
+
+        Map<Long, List<DailyRecommendationRow>> rowsByRegion = new LinkedHashMap<>();
+        for (DailyRecommendationRow row : rows) {
+            rowsByRegion.computeIfAbsent(row.regionId(), id -> new ArrayList<>()).add(row);
+        }
+
+        rowsByRegion.forEach((regionId, regionRows) ->
+                publish(regionId, toView(sequence, startDate, regionRows)));
+        views.entrySet().removeIf(entry ->
+                !rowsByRegion.containsKey(entry.getKey()) && entry.getValue().sequence() < sequence);
+        version.incrementAndGet();
+        log.info("추천 읽기 모델 생성 - 지역 {}개, 추천 {}건", rowsByRegion.size(), rows.size());
+    }
+
+    /**
+     * 지역의 스냅샷을 DB에서 다시 읽어 교체 (추천 정보를 갱신한 트랜잭션이 커밋된 뒤 호출)
+     * 같은 지역의 갱신이 겹쳐도 나중에 시작한 조회 결과가 남음
+     */
+    public void refresh(Long regionId) {
+        long sequence = beginLoad();
+        LocalDate startDate = LocalDate.now();
+        List<DailyRecommendationRow> rows = dailyRecommendationRepository.findRowsByRegionIdAndForecastDateBetween(
+                regionId, startDate, startDate.plusDays(DAYS - 1));
+
+        if (rows.isEmpty()) {
+            RegionView current = views.get(regionId);
+            if (current != null && current.sequence() < sequence && views.remove(regionId, current)) {
+                version.incrementAndGet();
+            }
+            return;
+        }
+        if (publish(regionId, toView(sequence, startDate, rows))) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * DB 조회로 읽은 주간 추천 행으로 스냅샷 채우기 (스냅샷이 없거나 더 이전 날짜 기준인 경우에만)
+     * sequence는 행을 조회하기 전에 {@link #beginLoad()}로 받은 순번
+     */
+    void fill(Long regionId, long sequence, LocalDate startDate, List<DailyRecommendationRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        RegionView candidate = toView(sequence, startDate, rows);
+        RegionView published = views.compute(regionId, (id, current) ->
+                current == null || current.startDate().isBefore(startDate) ? candidate : current);
+        if (published == candidate) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * DB 조회 시작 전에 받는 조회 순번 (스냅샷 교체 시 더 늦게 시작한 조회의 결과를 우선)
+     */
+    long beginLoad() {
+        return loadSequence.incrementAndGet();
+    }
+
+    /**
+     * 스냅샷이 교체될 때마다 증가하는 버전 (응답 캐시 무효화 판단용)
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 지역의 해당 날짜 추천 (스냅샷에 없으면 empty)
+     */
+    public Optional<WeatherResDTO.DailyRecommendationInfo> daily(Long regionId, LocalDate forecastDate) {
+        RegionView view = currentView(regionId);
+        if (view == null) {
+            return Optional.empty();
+        }
+
+        long offset = ChronoUnit.DAYS.between(view.startDate(), forecastDate);
+        if (offset < 0 || offset >= DAYS) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(view.days()[(int) offset]);
+    }
+
+    /**
+     * 지역의 오늘부터 7일 추천 (스냅샷에 없으면 empty)
+     */
+    public Optional<WeatherResDTO.WeeklyRecommendations> weekly(Long regionId) {
+        RegionView view = currentView(regionId);
+        return view == null ? Optional.empty() : Optional.of(view.weekly());
+    }
+
+    /**
+     * 오늘 기준으로 만든 스냅샷 (날짜가 바뀌었으면 null)
+     */
+    private RegionView currentView(Long regionId) {
+        RegionView view = views.get(regionId);
+        if (view == null || !view.startDate().equals(LocalDate.now())) {
+            return null;
+        }
+        return view;
+    }
+
+    /**
+     * 현재 스냅샷보다 나중에 시작한 조회의 결과일 때만 교체 (교체했으면 true)
+     */
+    private boolean publish(Long regionId, RegionView candidate) {
+        RegionView published = views.compute(regionId, (id, current) ->
+                current == null || current.sequence() < candidate.sequence() ? candidate : current);
+        return published == candidate;
+    }
+
+    private RegionView toView(long sequence, LocalDate startDate, List<DailyRecommendationRow> rows) {
+        WeatherResDTO.DailyRecommendationInfo[] days = new WeatherResDTO.DailyRecommendationInfo[DAYS];
+        for (DailyRecommendationRow row : rows) {
+            long offset = ChronoUnit.DAYS.between(startDate, row.forecastDate());
+            if (offset >= 0 && offset < DAYS) {
+                days[(int) offset] = WeatherConverter.toDailyRecommendationInfo(
+                        row, weatherTemplateRegistry.get(row.templateId()));
+            }
+        }
+
+        WeatherResDTO.WeeklyRecommendations weekly = WeatherConverter.toWeeklyRecommendations(
+                rows.get(0).regionName(),
+                Arrays.stream(days).filter(Objects::nonNull).toList());
+        return new RegionView(sequence, startDate, days, weekly);
+    }
+}
@@ -1,19 +1,23 @@
 package com.study.demo.testplayground.domain.weather.service.query;
 
+import com.study.demo.testplayground.domain.weather.converter.KmaGridConverter;
 import com.study.demo.testplayground.domain.weather.converter.WeatherConverter;
+import com.study.demo.testplayground.domain.weather.dto.projection.DailyRecommendationRow;
+import com.study.demo.testplayground.domain.weather.dto.projection.RegionLocation;
 import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
-import com.study.demo.testplayground.domain.weather.entity.DailyRecommendation;
-import com.study.demo.testplayground.domain.weather.entity.Region;
 import com.study.demo.testplayground.domain.weather.repository.DailyRecommendationRepository;
 import com.study.demo.testplayground.domain.weather.repository.RegionRepository;
 import com.study.demo.testplayground.domain.weather.service.WeatherApiService;
+import com.study.demo.testplayground.domain.weather.service.template.WeatherTemplateRegistry;
 import com.study.demo.testplayground.global.apiPayload.code.GeneralErrorCode;
 import com.study.demo.testplayground.global.apiPayload.exception.CustomException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -28,10 +32,14 @@ public class WeatherQueryService {
 
     private final DailyRecommendationRepository dailyRecommendationRepository;
     private final RegionRepository regionRepository;
+    private final WeatherTemplateRegistry weatherTemplateRegistry;
+    private final RecommendationReadModel recommendationReadModel;
 
     /**
-     * 특정 지역의 일일 추천 정보 조회
+     * 특정 지역의 일일 추천 정보 조회 (읽기 모델에 없으면 DB 조회)
+     * 읽기 모델에서 응답할 때 커넥션을 잡지 않도록 트랜잭션 없이 실행 (DB 조회는 각 조회 단위 트랜잭션)
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public WeatherResDTO.DailyRecommendationInfo getDailyRecommendation(Long regionId, String forecastDateStr) {
         log.info("일일 추천 정보 조회 - 지역 ID: {}, 예보 날짜: {}", regionId, forecastDateStr);
 
@@ -44,52 +52,61 @@ public class WeatherQueryService {
             throw new CustomException(GeneralErrorCode.VALIDATION_FAILED);
         }
 
+        Optional<WeatherResDTO.DailyRecommendationInfo> cached = recommendationReadModel.daily(regionId, forecastDate);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         // 지역 존재 여부 확인
-        Region region = regionRepository.findById(regionId)
-                .orElseThrow(() -> {
-                    log.error("존재하지 않는 지역 ID: {}", regionId);
-                    return new CustomException(GeneralErrorCode.NOT_FOUND_404);
-                });
+        String regionName = findRegionName(regionId);
 
         // 일일 추천 정보 조회
-        Optional<DailyRecommendation> recommendation =
-                dailyRecommendationRepository.findByRegionIdAndForecastDate(regionId, forecastDate);
+        Optional<DailyRecommendationRow> recommendation =
+                dailyRecommendationRepository.findRowByRegionIdAndForecastDate(regionId, forecastDate);
 
         if (recommendation.isEmpty()) {
-            log.warn("해당 날짜의 추천 정보가 없음 - 지역: {}, 날짜: {}", region.getName(), forecastDate);
+            log.warn("해당 날짜의 추천 정보가 없음 - 지역: {}, 날짜: {}", regionName, forecastDate);
             throw new CustomException(GeneralErrorCode.NOT_FOUND_404);
         }
 
-        return WeatherConverter.toDailyRecommendationInfo(recommendation.get());
+        return toDailyRecommendationInfo(recommendation.get());
     }
 
     /**
-     * 특정 지역의 주간 추천 정보 조회 (7일간)
+     * 특정 지역의 주간 추천 정보 조회 (7일간, 읽기 모델에 없으면 DB 조회 후 읽기 모델 채움)
+     * 읽기 모델에서 응답할 때 커넥션을 잡지 않도록 트랜잭션 없이 실행 (DB 조회는 각 조회 단위 트랜잭션)
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public WeatherResDTO.WeeklyRecommendations getWeeklyRecommendations(Long regionId) {
         log.info("주간 추천 정보 조회 - 지역 ID: {}", regionId);
 
+        Optional<WeatherResDTO.WeeklyRecommendations> cached = recommendationReadModel.weekly(regionId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         // 지역 존재 여부 확인
-        Region region = regionRepository.findById(regionId)
-                .orElseThrow(() -> {
-                    log.error("존재하지 않는 지역 ID: {}", regionId);
-                    return new CustomException(GeneralErrorCode.NOT_FOUND_404);
-                });
+        String regionName = findRegionName(regionId);
 
         // 오늘부터 7일간의 추천 정보 조회
+        long loadSequence = recommendationReadModel.beginLoad();
         LocalDate startDate = LocalDate.now();
-        LocalDate endDate = startDate.plusDays(6);
+        LocalDate endDate = startDate.plusDays(RecommendationReadModel.DAYS - 1);
 
-        List<DailyRecommendation> recommendations =
-                dailyRecommendationRepository.findByRegionIdAndForecastDateBetweenOrderByForecastDate(
+        List<DailyRecommendationRow> recommendations =
+                dailyRecommendationRepository.findRowsByRegionIdAndForecastDateBetween(
                         regionId, startDate, endDate);
 
         if (recommendations.isEmpty()) {
-            log.warn("주간 추천 정보가 없음 - 지역: {}", region.getName());
+            log.warn("주간 추천 정보가 없음 - 지역: {}", regionName);
             throw new CustomException(GeneralErrorCode.NOT_FOUND_404);
         }
 
-        return WeatherConverter.toWeeklyRecommendations(region.getName(), recommendations);
+        recommendationReadModel.fill(regionId, loadSequence, startDate, recommendations);
+
+        return WeatherConverter.toWeeklyRecommendations(regionName, recommendations.stream()
+                .map(this::toDailyRecommendationInfo)
+                .toList());
     }
 
     /**
@@ -103,7 +120,7 @@ public class WeatherQueryService {
             validateCoordinates(latitude, longitude);
 
             // 가장 가까운 지역 찾기
-            Region nearestRegion = findNearestRegion(latitude, longitude);
+            RegionLocation nearestRegion = findNearestRegion(latitude, longitude);
 
             if (nearestRegion == null) {
                 log.warn("좌표에 해당하는 지역을 찾을 수 없음 - 위도: {}, 경도: {}", latitude, longitude);
@@ -112,15 +129,15 @@ public class WeatherQueryService {
 
             // 오늘 날짜의 추천 정보 조회
             LocalDate today = LocalDate.now();
-            Optional<DailyRecommendation> recommendation =
-                    dailyRecommendationRepository.findByRegionIdAndForecastDate(nearestRegion.getId(), today);
+            Optional<DailyRecommendationRow> recommendation =
+                    dailyRecommendationRepository.findRowByRegionIdAndForecastDate(nearestRegion.id(), today);
 
             if (recommendation.isEmpty()) {
-                log.warn("오늘 날짜의 추천 정보가 없음 - 지역: {}", nearestRegion.getName());
+                log.warn("오늘 날짜의 추천 정보가 없음 - 지역: {}", nearestRegion.name());
                 throw new CustomException(GeneralErrorCode.NOT_FOUND_404);
             }
 
-            return WeatherConverter.toDailyRecommendationInfo(recommendation.get());
+            return toDailyRecommendationInfo(recommendation.get());
 
         } catch (CustomException e) {
             throw e;
@@ -138,8 +155,8 @@ public class WeatherQueryService {
 
         LocalDate today = LocalDate.now();
 
-        List<DailyRecommendation> todayRecommendations =
-                dailyRecommendationRepository.findByForecastDateOrderByRegionName(today);
+        List<DailyRecommendationRow> todayRecommendations =
+                dailyRecommendationRepository.findRowsByForecastDate(today);
 
         if (todayRecommendations.isEmpty()) {
             log.warn("오늘 날짜의 추천 정보가 없음");
@@ -147,7 +164,7 @@ public class WeatherQueryService {
         }
 
         return todayRecommendations.stream()
-                .map(WeatherConverter::toDailyRecommendationInfo)
+                .map(this::toDailyRecommendationInfo)
                 .toList();
     }
 
@@ -166,11 +183,7 @@ public class WeatherQueryService {
         }
 
         // 지역 존재 여부 확인
-        Region region = regionRepository.findById(regionId)
-                .orElseThrow(() -> {
-                    log.error("존재하지 않는 지역 ID: {}", regionId);
-                    return new CustomException(GeneralErrorCode.NOT_FOUND_404);
-                });
+        findRegionName(regionId);
 
         // 실제 구현에서는 Raw 데이터에서 통계 계산
         // 현재는 임시 데이터 사용
@@ -183,6 +196,25 @@ public class WeatherQueryService {
 
     // === 유틸리티 메서드들 ===
 
+    /**
+     * 지역명 조회 (존재하지 않는 지역이면 404)
+     */
+    private String findRegionName(Long regionId) {
+        return regionRepository.findNameById(regionId)
+                .orElseThrow(() -> {
+                    log.error("존재하지 않는 지역 ID: {}", regionId);
+                    return new CustomException(GeneralErrorCode.NOT_FOUND_404);
+                });
+    }
+
+    /**
+     * 추천 행 응답 변환 (템플릿 메시지·이모지·키워드는 레지스트리에서 조회)
+     */
+    private WeatherResDTO.DailyRecommendationInfo toDailyRecommendationInfo(DailyRecommendationRow recommendation) {
+        return WeatherConverter.toDailyRecommendationInfo(
+                recommendation, weatherTemplateRegistry.get(recommendation.templateId()));
+    }
+
     /**
      * 좌표 유효성 검증
      */
@@ -200,18 +232,27 @@ public class WeatherQueryService {
 
     /**
      * 가장 가까운 지역 찾기 (간단한 거리 계산)
+     * 좌표가 속한 예보 격자와 인접 8개 격자(3×3)의 지역을 후보로 사용하고, 없으면 전체 지역에서 탐색
+     * (격자 경계 근처 좌표는 옆 격자의 지역이 더 가까울 수 있으므로 같은 격자만 보지 않음)
      */
-    private Region findNearestRegion(Double latitude, Double longitude) {
-        List<Region> allRegions = regionRepository.findAll();
+    private RegionLocation findNearestRegion(Double latitude, Double longitude) {
+        KmaGridConverter.GridPoint grid = KmaGridConverter.toGrid(latitude, longitude);
+        List<RegionLocation> candidates = regionRepository.findLocationsByGridBetween(
+                BigDecimal.valueOf(grid.nx() - 1), BigDecimal.valueOf(grid.nx() + 1),
+                BigDecimal.valueOf(grid.ny() - 1), BigDecimal.valueOf(grid.ny() + 1));
+
+        if (candidates.isEmpty()) {
+            candidates = regionRepository.findAllLocations();
+        }
 
-        Region nearestRegion = null;
+        RegionLocation nearestRegion = null;
         double minDistance = Double.MAX_VALUE;
 
-        for (Region region : allRegions) {
+        for (RegionLocation region : candidates) {
             double distance = calculateDistance(
                     latitude, longitude,
-                    region.getLatitude().doubleValue(),
-                    region.getLongitude().doubleValue()
+                    region.latitude().doubleValue(),
+                    region.longitude().doubleValue()
             );
 
             if (distance < minDistance) {
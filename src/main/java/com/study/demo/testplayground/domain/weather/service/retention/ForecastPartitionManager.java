@@ -0,0 +1,264 @@
+package com.study.demo.testplayground.domain.weather.service.retention;
+
+import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import com.study.demo.testplayground.domain.weather.entity.enums.ForecastProduct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 원시 예보 테이블의 일 단위 RANGE COLUMNS 파티션 관리 (MySQL)
+ * 단기 예보는 fcst_date, 중기 예보는 tmef(예보 대상일) 기준으로 하루 한 파티션(pYYYYMMDD)을 두고,
+ * 보존 기간이 지난 데이터는 행 삭제 대신 파티션을 통째로 DROP 한다.
+ * 파티션 컬럼은 행 단위 삭제(deleteOldRecords)의 기준 컬럼 및 조회 조건 컬럼과 같다.
+ *
+ * 일반 테이블의 파티션 전환은 외래 키 제거·기본 키 변경·테이블 재작성이 필요한 일회성 작업이므로
+ * 기동 시 자동으로 하지 않고 관리자 API(convert)로만 수행한다.
+ * 기동 시와 매일 정리 작업에서는 이미 같은 컬럼으로 파티션된 테이블에 앞으로 쓸 파티션만 추가한다.
+ * 예보 일자가 준비된 파티션 범위를 넘어도 저장이 실패하지 않도록 마지막에 pmax(MAXVALUE) 파티션을 유지한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ForecastPartitionManager {
+
+    private static final DateTimeFormatter NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String HISTORY_PARTITION = "p_history";
+    private static final String MAX_PARTITION = "pmax";
+
+    private record PartitionedTable(String name, String column) {
+    }
+
+    private record Partition(String name, LocalDate upperBound, long rows) {
+    }
+
+    private static final Map<ForecastProduct, PartitionedTable> TABLES = Map.of(
+            ForecastProduct.SHORT_TERM, new PartitionedTable("raw_short_term_weather", "fcst_date"),
+            ForecastProduct.MEDIUM_TERM, new PartitionedTable("raw_medium_term_weather", "tmef"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${weather.partitioning.enabled:true}")
+    private boolean enabled;
+
+    // 오늘 이후 미리 만들어 둘 일 파티션 수
+    @Value("${weather.partitioning.days-ahead:7}")
+    private int daysAhead;
+
+    @Value("${weather.retention.days:7}")
+    private int retentionDays;
+
+    /**
+     * 시작 시 이미 파티션된 테이블에 앞으로 쓸 파티션 준비 (실패해도 기동은 계속하며 행 삭제 방식으로 정리)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+
+        for (PartitionedTable table : TABLES.values()) {
+            try {
+                if (isPartitioned(table)) {
+                    ensureFuturePartitions(table);
+                } else {
+                    log.info("{}는 {} 기준 파티션 테이블이 아님 - 행 삭제 방식으로 정리", table.name(), table.column());
+                }
+            } catch (Exception e) {
+                log.error("{} 파티션 준비 실패: {}", table.name(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 일반 테이블을 일 단위 파티션 테이블로 전환 (관리자 API에서만 호출, 반환값은 생성한 파티션 수)
+     * 다른 컬럼으로 파티션된 테이블은 먼저 REMOVE PARTITIONING으로 되돌린 뒤 전환해야 한다.
+     */
+    public int convert(ForecastProduct product) {
+        if (!enabled) {
+            throw new IllegalStateException("파티션 관리가 비활성화되어 있습니다.");
+        }
+
+        PartitionedTable table = TABLES.get(product);
+        String expression = partitionExpression(table);
+        if (expression != null) {
+            throw new IllegalStateException(table.name() + "는 이미 " + expression + " 기준으로 파티션되어 있습니다.");
+        }
+        return convert(table);
+    }
+
+    public boolean isPartitioned(ForecastProduct product) {
+        return enabled && isPartitioned(TABLES.get(product));
+    }
+
+    /**
+     * 앞으로 쓸 일 파티션 준비 (매일 정리 작업에서 호출)
+     */
+    public void ensureFuturePartitions() {
+        TABLES.values().stream()
+                .filter(this::isPartitioned)
+                .forEach(this::ensureFuturePartitions);
+    }
+
+    /**
+     * 상한이 기준일 이하인 파티션(모든 행이 기준일 이전) 삭제
+     * 삭제 건수는 information_schema의 통계 기반 추정치
+     */
+    public WeatherResDTO.RetentionResult dropPartitionsBefore(ForecastProduct product, String target, LocalDate cutoffDate) {
+        PartitionedTable table = TABLES.get(product);
+        long startNanos = System.nanoTime();
+
+        List<Partition> expired = partitions(table).stream()
+                .filter(partition -> partition.upperBound() != null && !partition.upperBound().isAfter(cutoffDate))
+                .toList();
+
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE " + table.name() + " DROP PARTITION " +
+                    expired.stream().map(Partition::name).collect(Collectors.joining(", ")));
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long deleted = expired.stream().mapToLong(Partition::rows).sum();
+        log.info("오래된 {} 파티션 {}개 삭제 (약 {}건) - {}ms",
+                target, expired.size(), deleted, elapsedNanos / 1_000_000);
+
+        return WeatherResDTO.RetentionResult.builder()
+                .target(target)
+                .strategy("partition-drop")
+                .deleted(deleted)
+                .chunks(expired.size())
+                .elapsedMs(elapsedNanos / 1_000_000)
+                .rowsPerSecond(elapsedNanos > 0 ? deleted * 1_000_000_000.0 / elapsedNanos : 0)
+                .build();
+    }
+
+    /**
+     * 관리 대상 컬럼으로 파티션된 테이블인지 (다른 컬럼 기준이면 파티션 DROP이 보존 기준과 어긋나므로 false)
+     */
+    private boolean isPartitioned(PartitionedTable table) {
+        String expression = partitionExpression(table);
+        if (expression == null) {
+            return false;
+        }
+        if (!expression.replace("`", "").equalsIgnoreCase(table.column())) {
+            log.warn("{}가 {} 기준으로 파티션되어 있음 (기대 컬럼: {}) - 행 삭제 방식으로 정리",
+                    table.name(), expression, table.column());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 파티션 기준 컬럼 (파티션 테이블이 아니면 null)
+     */
+    private String partitionExpression(PartitionedTable table) {
+        List<String> expressions = jdbcTemplate.queryForList(
+                "SELECT PARTITION_EXPRESSION FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "LIMIT 1",
+                String.class, table.name());
+        return expressions.isEmpty() ? null : expressions.get(0);
+    }
+
+    /**
+     * 일반 테이블을 일 단위 파티션 테이블로 전환 (보존 기간 이전 데이터는 p_history 파티션에 모음)
+     * 파티션 테이블은 외래 키를 가질 수 없고 모든 유니크 키에 파티션 컬럼이 포함되어야 하므로,
+     * region_id 외래 키를 제거하고 기본 키를 (id, 파티션 컬럼)으로 바꾼다.
+     */
+    private int convert(PartitionedTable table) {
+        log.info("{} 파티션 전환 시작 - 기준 컬럼: {}", table.name(), table.column());
+
+        List<String> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND CONSTRAINT_TYPE = 'FOREIGN KEY'",
+                String.class, table.name());
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + table.name() + " DROP FOREIGN KEY " + foreignKey);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + table.name() +
+                " DROP PRIMARY KEY, ADD PRIMARY KEY (id, " + table.column() + ")");
+
+        LocalDate today = LocalDate.now();
+        LocalDate first = today.minusDays(retentionDays);
+
+        List<String> definitions = new ArrayList<>();
+        definitions.add(lessThan(HISTORY_PARTITION, first));
+        for (LocalDate day = first; !day.isAfter(today.plusDays(daysAhead)); day = day.plusDays(1)) {
+            definitions.add(dayPartition(day));
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE " + table.name() +
+                " PARTITION BY RANGE COLUMNS(" + table.column() + ") (" + String.join(", ", definitions) + ")");
+
+        log.info("{} 파티션 전환 완료 - {}개", table.name(), definitions.size());
+        return definitions.size();
+    }
+
+    /**
+     * 마지막 일 파티션 다음 날부터 오늘 + days-ahead까지 pmax를 분할하여 추가
+     */
+    private void ensureFuturePartitions(PartitionedTable table) {
+        LocalDate lastBound = partitions(table).stream()
+                .map(Partition::upperBound)
+                .filter(Objects::nonNull)
+                .max(LocalDate::compareTo)
+                .orElse(LocalDate.now());
+        LocalDate until = LocalDate.now().plusDays(daysAhead);
+
+        List<String> definitions = new ArrayList<>();
+        for (LocalDate day = lastBound; !day.isAfter(until); day = day.plusDays(1)) {
+            definitions.add(dayPartition(day));
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE " + table.name() + " REORGANIZE PARTITION " + MAX_PARTITION +
+                " INTO (" + String.join(", ", definitions) + ")");
+        log.info("{} 파티션 {}개 추가 - {}까지", table.name(), definitions.size() - 1, until);
+    }
+
+    /**
+     * 파티션 목록 (상한 날짜 순, MAXVALUE 파티션은 상한 null)
+     */
+    private List<Partition> partitions(PartitionedTable table) {
+        return jdbcTemplate.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Partition(
+                        rs.getString(1), parseBound(rs.getString(2)), rs.getLong(3)),
+                table.name());
+    }
+
+    // RANGE COLUMNS 파티션 설명값: '2025-07-03' 또는 MAXVALUE
+    private static LocalDate parseBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", ""));
+    }
+
+    private static String dayPartition(LocalDate day) {
+        return lessThan("p" + day.format(NAME_FORMATTER), day.plusDays(1));
+    }
+
+    private static String lessThan(String name, LocalDate upperBound) {
+        return "PARTITION " + name + " VALUES LESS THAN ('" + upperBound + "')";
+    }
+}
@@ -0,0 +1,209 @@
+package com.study.demo.testplayground.domain.weather.service.template;
+
+import com.study.demo.testplayground.domain.weather.converter.WeatherConverter;
+import com.study.demo.testplayground.domain.weather.entity.WeatherTemplate;
+import com.study.demo.testplayground.domain.weather.entity.enums.PrecipCategory;
+import com.study.demo.testplayground.domain.weather.entity.enums.TempCategory;
+import com.study.demo.testplayground.domain.weather.entity.enums.WeatherType;
+import com.study.demo.testplayground.domain.weather.repository.WeatherTemplateRepository;
+import com.study.demo.testplayground.global.entity.CacheRegions;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (날씨, 기온, 강수) 36개 조합의 WeatherTemplate 레지스트리
+ * 시작 시 전체 템플릿을 키워드와 함께 한 번 읽고 없는 조합은 미리 만들어 두어,
+ * 수집과 조회에서 템플릿을 DB 조회 없이 배열 인덱스로 찾는다.
+ * 스냅샷은 불변이며 refresh() 시 새 스냅샷으로 한 번에 교체한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class WeatherTemplateRegistry {
+
+    private static final int TEMP_COUNT = TempCategory.values().length;
+    private static final int PRECIP_COUNT = PrecipCategory.values().length;
+    private static final int COMBINATION_COUNT = WeatherType.values().length * TEMP_COUNT * PRECIP_COUNT;
+
+    // 응답 변환에 필요한 템플릿 정보 (엔티티와 분리된 불변 값)
+    public record Template(
+            Long id,
+            WeatherType weather,
+            TempCategory tempCategory,
+            PrecipCategory precipCategory,
+            String message,
+            String emoji,
+            List<String> keywords
+    ) {
+    }
+
+    private record Snapshot(Template[] byCategory, Map<Long, Template> byId) {
+    }
+
+    private final WeatherTemplateRepository weatherTemplateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    // 모르는 ID 조회로 인한 다시 로드의 최소 간격 (잘못된 ID가 반복돼도 DB 부하가 간격당 한 번을 넘지 않음)
+    @Value("${weather.template-registry.miss-refresh-interval:PT30S}")
+    private Duration missRefreshInterval;
+
+    private final Object missRefreshLock = new Object();
+    private long nextMissRefreshNanos;      // missRefreshLock으로 보호
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void initialize() {
+        refresh();
+        nextMissRefreshNanos = System.nanoTime();
+    }
+
+    /**
+     * 템플릿·키워드를 다시 읽어 스냅샷 교체 (없는 조합은 생성)
+     * 다른 인스턴스가 같은 조합을 먼저 만든 경우 유니크 키 충돌 후 한 번 더 읽음
+     * DB에서 직접 바꾼 템플릿·키워드가 보이도록 관련 2차 캐시 영역을 먼저 비움
+     */
+    public void refresh() {
+        evictTemplateCaches();
+
+        Snapshot loaded;
+        try {
+            loaded = transactionTemplate.execute(status -> load());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("날씨 템플릿 동시 생성 감지, 다시 로드: {}", e.getMessage());
+            loaded = transactionTemplate.execute(status -> load());
+        }
+
+        snapshot = loaded;
+        log.info("날씨 템플릿 레지스트리 로드 - {}개", loaded.byId().size());
+    }
+
+    /**
+     * 조합에 해당하는 템플릿 정보
+     */
+    public Template get(WeatherType weather, TempCategory tempCategory, PrecipCategory precipCategory) {
+        return snapshot.byCategory()[index(weather, tempCategory, precipCategory)];
+    }
+
+    /**
+     * ID에 해당하는 템플릿 정보 (스냅샷 이후 다른 인스턴스가 만든 템플릿일 수 있으므로 간격 제한을 두고 다시 로드)
+     */
+    public Template get(Long templateId) {
+        Template template = snapshot.byId().get(templateId);
+        if (template == null) {
+            template = refreshOnMiss(templateId);
+        }
+        if (template == null) {
+            throw new IllegalStateException("존재하지 않는 날씨 템플릿: " + templateId);
+        }
+        return template;
+    }
+
+    /**
+     * 모르는 ID 조회 시 다시 로드 (동시 요청은 한 번만 로드하고, 간격 안의 재요청은 로드 없이 null)
+     */
+    private Template refreshOnMiss(Long templateId) {
+        synchronized (missRefreshLock) {
+            // 기다리는 동안 다른 요청이 다시 로드했을 수 있음
+            Template template = snapshot.byId().get(templateId);
+            if (template != null) {
+                return template;
+            }
+
+            long now = System.nanoTime();
+            if (now - nextMissRefreshNanos < 0) {
+                log.debug("날씨 템플릿 다시 로드 생략 (간격 제한) - ID: {}", templateId);
+                return null;
+            }
+            nextMissRefreshNanos = now + missRefreshInterval.toNanos();
+
+            refresh();
+            return snapshot.byId().get(templateId);
+        }
+    }
+
+    /**
+     * 연관관계 설정용 템플릿 참조 (현재 트랜잭션의 프록시, DB 조회 없음)
+     */
+    public WeatherTemplate reference(WeatherType weather, TempCategory tempCategory, PrecipCategory precipCategory) {
+        return entityManager.getReference(WeatherTemplate.class, get(weather, tempCategory, precipCategory).id());
+    }
+
+    private void evictTemplateCaches() {
+        Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        for (String region : CacheRegions.TEMPLATE_REGIONS) {
+            cache.evictRegion(region);
+        }
+    }
+
+    private Snapshot load() {
+        Template[] byCategory = new Template[COMBINATION_COUNT];
+        Map<Long, Template> byId = new HashMap<>();
+
+        // 중복 조합이 남아 있으면 ID가 가장 작은 템플릿을 대표로 사용 (기존 추천의 ID 조회는 모두 가능)
+        for (WeatherTemplate entity : weatherTemplateRepository.findAllWithKeywords()) {
+            Template template = toTemplate(entity);
+            byId.put(template.id(), template);
+
+            int index = index(template.weather(), template.tempCategory(), template.precipCategory());
+            if (byCategory[index] == null || byCategory[index].id() > template.id()) {
+                byCategory[index] = template;
+            }
+        }
+
+        List<WeatherTemplate> missing = new ArrayList<>();
+        for (WeatherType weather : WeatherType.values()) {
+            for (TempCategory tempCategory : TempCategory.values()) {
+                for (PrecipCategory precipCategory : PrecipCategory.values()) {
+                    if (byCategory[index(weather, tempCategory, precipCategory)] == null) {
+                        missing.add(WeatherConverter.toWeatherTemplate(weather, tempCategory, precipCategory));
+                    }
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            weatherTemplateRepository.saveAllAndFlush(missing);
+            log.info("없는 날씨 템플릿 조합 생성 - {}개", missing.size());
+
+            for (WeatherTemplate entity : missing) {
+                Template template = toTemplate(entity);
+                byId.put(template.id(), template);
+                byCategory[index(template.weather(), template.tempCategory(), template.precipCategory())] = template;
+            }
+        }
+
+        return new Snapshot(byCategory, Map.copyOf(byId));
+    }
+
+    private static Template toTemplate(WeatherTemplate entity) {
+        return new Template(
+                entity.getId(),
+                entity.getWeather(),
+                entity.getTempCategory(),
+                entity.getPrecipCategory(),
+                entity.getMessage(),
+                entity.getEmoji(),
+                entity.getTemplateKeywords().stream()
+                        .map(templateKeyword -> templateKeyword.getKeyword().getName())
+                        .toList());
+    }
+
+    private static int index(WeatherType weather, TempCategory tempCategory, PrecipCategory precipCategory) {
+        return (weather.ordinal() * TEMP_COUNT + tempCategory.ordinal()) * PRECIP_COUNT + precipCategory.ordinal();
+    }
+}
@@ -0,0 +1,85 @@
+package com.study.demo.testplayground.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.study.demo.testplayground.global.entity.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine)
+ * 캐시 영역을 미리 만들어 두고(영역별 TTL·최대 건수), 정의되지 않은 영역을 쓰는 엔티티가 있으면 기동 시 실패하도록 한다.
+ * 엔티티가 선언한 영역은 REGION과 TEMPLATE_REGIONS(템플릿·템플릿 키워드 컬렉션·키워드·키워드 템플릿 컬렉션·템플릿 키워드)로 모두 미리 만든다.
+ * 템플릿 영역은 WeatherTemplateRegistry가 기동 시와 다시 로드할 때 채우며, 수집은 레지스트리의 참조만 쓰므로 이 영역에 쓰지 않는다.
+ *
+ * 지표: hibernate.generate_statistics를 켜서 Actuator의 hibernate.second.level.cache.requests(region, result=hit/miss)로 노출
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Value("${jpa.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jpa.cache.statistics:true}")
+    private boolean statistics;
+
+    @Value("${jpa.cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${jpa.cache.ttl.region:PT24H}")
+    private Duration regionTtl;
+
+    @Value("${jpa.cache.ttl.template:PT6H}")
+    private Duration templateTtl;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        Map<String, Duration> ttls = new LinkedHashMap<>();
+        ttls.put(CacheRegions.REGION, regionTtl);
+        for (String region : CacheRegions.TEMPLATE_REGIONS) {
+            ttls.put(region, templateTtl);
+        }
+
+        ttls.forEach((region, ttl) -> {
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, cacheConfiguration(ttl));
+            }
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> cacheConfiguration(Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -1,25 +1,92 @@
 package com.study.demo.testplayground.global.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebClientConfig {
 
+    private static final String READ_TIMEOUT_HANDLER = "kmaReadTimeout";
+
     @Value("${kma.base-url}")
     private String kmaBaseUrl;
 
     @Value("${kma.auth-key}")
     private String authKey;
 
+    // 커넥션 풀 설정
+    @Value("${kma.http.max-connections:32}")
+    private int maxConnections;
+
+    @Value("${kma.http.pending-acquire-max-count:256}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${kma.http.pending-acquire-timeout:PT10S}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${kma.http.max-idle-time:PT20S}")
+    private Duration maxIdleTime;
+
+    @Value("${kma.http.max-life-time:PT5M}")
+    private Duration maxLifeTime;
+
+    @Value("${kma.http.evict-interval:PT30S}")
+    private Duration evictInterval;
+
+    // 타임아웃 설정
+    @Value("${kma.http.connect-timeout:PT3S}")
+    private Duration connectTimeout;
+
+    @Value("${kma.http.read-timeout:PT10S}")
+    private Duration readTimeout;
+
+    @Value("${kma.http.response-timeout:PT15S}")
+    private Duration responseTimeout;
+
+    /**
+     * KMA API 전용 커넥션 풀
+     * metrics(true)로 Micrometer에 풀 지표(reactor.netty.connection.provider.active/idle/pending.connections 등)를
+     * name=kma 태그로 등록한다.
+     */
+    @Bean(destroyMethod = "disposeLater")
+    public ConnectionProvider kmaConnectionProvider() {
+        return ConnectionProvider.builder("kma")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient kmaWebClient(WebClient.Builder builder) {
+    public WebClient kmaWebClient(WebClient.Builder builder, ConnectionProvider kmaConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(kmaConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                .compress(true)  // Accept-Encoding: gzip 요청 및 응답 자동 해제
+                // 본문 수신 중 무응답 감지: 요청마다 붙이고 응답을 끝까지 받으면 제거 (풀에 반납된 커넥션에 남지 않도록)
+                // 요청·응답 오류 시에는 커넥션이 풀로 돌아가지 않고 닫히므로 따로 제거하지 않음
+                .doOnRequest((request, connection) -> connection.addHandlerFirst(READ_TIMEOUT_HANDLER,
+                        new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS)))
+                .doAfterResponseSuccess((response, connection) -> connection.removeHandler(READ_TIMEOUT_HANDLER));
+
         return builder
                 .baseUrl(kmaBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader("Content-Type", "application/json")
                 .defaultUriVariables(Map.of("authKey", authKey))
                 .build();
@@ -0,0 +1,28 @@
+package com.study.demo.testplayground.global.entity;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hibernate 2차 캐시 영역 이름 (@Cache의 region에서 사용하는 상수)
+ * 지역·템플릿·키워드처럼 거의 바뀌지 않고 자주 읽는 기준 데이터만 캐시하며, 영역별 TTL은 SecondLevelCacheConfig에서 설정한다.
+ * 새 영역을 @Cache에 쓰면 SecondLevelCacheConfig가 미리 만드는 목록(REGION, TEMPLATE_REGIONS)에도 추가해야 기동에 실패하지 않는다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CacheRegions {
+
+    public static final String REGION = "region";
+    public static final String WEATHER_TEMPLATE = "weather_template";
+    public static final String WEATHER_TEMPLATE_KEYWORDS = "weather_template.template_keywords";
+    public static final String KEYWORD = "keyword";
+    public static final String KEYWORD_TEMPLATES = "keyword.template_keywords";
+    public static final String TEMPLATE_KEYWORD = "template_keyword";
+
+    /**
+     * 템플릿·키워드 관련 영역
+     * 템플릿은 수집 중에 만들어지지 않고 WeatherTemplateRegistry가 기동 시와 다시 로드할 때 만들고 읽으며, 다시 로드 전에 이 영역들을 비운다.
+     */
+    public static final String[] TEMPLATE_REGIONS = {
+            WEATHER_TEMPLATE, WEATHER_TEMPLATE_KEYWORDS, KEYWORD, KEYWORD_TEMPLATES, TEMPLATE_KEYWORD
+    };
+}
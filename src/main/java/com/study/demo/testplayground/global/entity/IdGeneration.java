@@ -0,0 +1,18 @@
+package com.study.demo.testplayground.global.entity;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 엔티티 ID 생성 공통 설정 (@TableGenerator에서 사용하는 상수)
+ * 모든 엔티티가 id_generator 테이블의 행(sequence_name = 테이블 이름)에서 ALLOCATION_SIZE개씩 ID 구간을 받아
+ * 메모리에서 나눠 쓰므로(pooled-lo), INSERT 전에 키를 알 수 있어 Hibernate가 JDBC 배치로 묶을 수 있다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IdGeneration {
+
+    public static final String TABLE = "id_generator";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+}
@@ -0,0 +1,80 @@
+package com.study.demo.testplayground.global.jdbc;
+
+import com.study.demo.testplayground.global.entity.IdGeneration;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+
+/**
+ * 애플리케이션 시작 시 id_generator 값을 각 테이블의 최대 ID 다음 값 이상으로 맞춤
+ * IDENTITY로 쌓인 기존 데이터가 있는 스키마에서 테이블 기반 ID로 전환해도 키가 겹치지 않도록 한다.
+ * 이미 더 큰 값이 있으면 유지한다.
+ *
+ * MySQL 전용 문법(INSERT ... SELECT ... ON DUPLICATE KEY UPDATE GREATEST)이므로 MySQL에서만 실행하며,
+ * 전환을 마친 환경에서는 jpa.id-generator.seed-on-startup=false로 끌 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorSeeder {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jpa.id-generator.seed-on-startup:true}")
+    private boolean seedOnStartup;
+
+    @PostConstruct
+    public void seed() {
+        if (!seedOnStartup) {
+            return;
+        }
+
+        String databaseProduct = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(databaseProduct)) {
+            log.info("ID 생성 테이블 보정 생략 - MySQL이 아닌 DB: {}", databaseProduct);
+            return;
+        }
+
+        for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> entityClass = entityType.getJavaType();
+            Table table = entityClass.getAnnotation(Table.class);
+            TableGenerator generator = idGenerator(entityClass);
+
+            if (table == null || generator == null || !IdGeneration.TABLE.equals(generator.table())) {
+                continue;
+            }
+
+            jdbcTemplate.update("INSERT INTO " + IdGeneration.TABLE +
+                    " (" + IdGeneration.PK_COLUMN + ", " + IdGeneration.VALUE_COLUMN + ")" +
+                    " SELECT * FROM (SELECT ? AS " + IdGeneration.PK_COLUMN +
+                    ", COALESCE(MAX(id), 0) + 1 AS " + IdGeneration.VALUE_COLUMN +
+                    " FROM " + table.name() + ") AS incoming" +
+                    " ON DUPLICATE KEY UPDATE " + IdGeneration.VALUE_COLUMN + " = GREATEST(" +
+                    IdGeneration.TABLE + "." + IdGeneration.VALUE_COLUMN + ", incoming." + IdGeneration.VALUE_COLUMN + ")",
+                    generator.pkColumnValue());
+            log.debug("ID 생성 테이블 확인 - {}", generator.pkColumnValue());
+        }
+    }
+
+    private TableGenerator idGenerator(Class<?> entityClass) {
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Id.class)) {
+                return field.getAnnotation(TableGenerator.class);
+            }
+        }
+        return null;
+    }
+}
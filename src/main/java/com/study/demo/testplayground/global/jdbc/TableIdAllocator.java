@@ -0,0 +1,75 @@
+package com.study.demo.testplayground.global.jdbc;
+
+import com.study.demo.testplayground.global.entity.IdGeneration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JDBC로 직접 저장하는 행의 ID 할당 (Hibernate @TableGenerator와 같은 id_generator 행을 공유)
+ * pooled-lo 해석(저장된 값 = 다음 구간의 시작)을 따르므로 Hibernate가 받아 간 구간과 겹치지 않는다.
+ * 구간 갱신은 호출자 트랜잭션과 분리된 별도 트랜잭션에서 행 잠금을 짧게 잡고 처리한다.
+ */
+@Component
+public class TableIdAllocator {
+
+    private static final String SELECT_SQL = "SELECT " + IdGeneration.VALUE_COLUMN + " FROM " + IdGeneration.TABLE +
+            " WHERE " + IdGeneration.PK_COLUMN + " = ? FOR UPDATE";
+    private static final String INSERT_SQL = "INSERT IGNORE INTO " + IdGeneration.TABLE +
+            " (" + IdGeneration.PK_COLUMN + ", " + IdGeneration.VALUE_COLUMN + ") VALUES (?, 1)";
+    private static final String UPDATE_SQL = "UPDATE " + IdGeneration.TABLE +
+            " SET " + IdGeneration.VALUE_COLUMN + " = ? WHERE " + IdGeneration.PK_COLUMN + " = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public TableIdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * sequence(테이블 이름)에서 ID count개 할당
+     */
+    public long[] allocate(String sequence, int count) {
+        Block block = blocks.computeIfAbsent(sequence, key -> new Block());
+        long[] ids = new long[count];
+
+        synchronized (block) {
+            for (int i = 0; i < count; i++) {
+                if (block.next >= block.end) {
+                    int size = Math.max(IdGeneration.ALLOCATION_SIZE, count - i);
+                    block.next = reserve(sequence, size);
+                    block.end = block.next + size;
+                }
+                ids[i] = block.next++;
+            }
+        }
+        return ids;
+    }
+
+    private long reserve(String sequence, int size) {
+        Long start = requiresNew.execute(status -> {
+            Long current = jdbcTemplate.query(SELECT_SQL, rs -> rs.next() ? rs.getLong(1) : null, sequence);
+            if (current == null) {
+                jdbcTemplate.update(INSERT_SQL, sequence);
+                current = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, sequence);
+            }
+            jdbcTemplate.update(UPDATE_SQL, current + size, sequence);
+            return current;
+        });
+        return start;
+    }
+
+    private static class Block {
+        private long next;
+        private long end;
+    }
+}
@@ -0,0 +1,77 @@
+package com.study.demo.testplayground.domain.weather.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestHedgerTest {
+
+    private static final String OPERATION = "test";
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(20);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdaptiveConcurrencyLimiter limiter;
+    private RequestHedger hedger;
+
+    @Test
+    void 한도가_포화되어_대기열에서_기다리는_동안에는_헤지_요청을_보내지_않음() throws Exception {
+        prepare(1);
+        Disposable holder = limiter.limit(Mono.never()).subscribe();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> result = hedger.hedge(OPERATION, Mono.fromCallable(() -> {
+            calls.incrementAndGet();
+            return "ok";
+        })).toFuture();
+
+        // 헤지 대기의 여러 배가 지나도 원 요청은 대기열에 있고 헤지 요청도 나가지 않음
+        Thread.sleep(HEDGE_DELAY.toMillis() * 10);
+        assertThat(limiter.queueDepth()).isEqualTo(1);
+        assertThat(calls).hasValue(0);
+        assertThat(hedgeSent()).isZero();
+
+        holder.dispose();
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(calls).hasValue(1);
+        assertThat(hedgeSent()).isZero();
+    }
+
+    @Test
+    void 허가를_얻은_뒤_응답이_늦으면_헤지_요청을_보냄() {
+        prepare(2);
+
+        // 원 요청은 느리고 헤지 요청은 바로 응답
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> calls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofSeconds(5)).thenReturn("primary")
+                : Mono.just("hedged"));
+
+        assertThat(hedger.hedge(OPERATION, call).block(Duration.ofSeconds(1))).isEqualTo("hedged");
+        assertThat(calls).hasValue(2);
+        assertThat(hedgeSent()).isEqualTo(1.0);
+    }
+
+    /**
+     * 동시 호출 한도를 limit로 고정하고, 헤지 대기 계산용 표본 1개 기록 (표본 부족이라 헤지 없이 실행)
+     * 예산은 원 요청마다 토큰 1개가 쌓이도록 100%
+     */
+    private void prepare(int limit) {
+        limiter = new AdaptiveConcurrencyLimiter(
+                meterRegistry, limit, limit, limit, 100, 0.7, 2.0, Duration.ofSeconds(5));
+        hedger = new RequestHedger(meterRegistry, limiter, true, 0.5, 100, 1, HEDGE_DELAY);
+        hedger.hedge(OPERATION, Mono.just("warm-up")).block(Duration.ofSeconds(1));
+    }
+
+    private double hedgeSent() {
+        return meterRegistry.get("kma.client.hedge.sent").counter().count();
+    }
+}
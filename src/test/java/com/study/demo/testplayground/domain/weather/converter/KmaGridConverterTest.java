@@ -0,0 +1,39 @@
+package com.study.demo.testplayground.domain.weather.converter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class KmaGridConverterTest {
+
+    @Test
+    void toGrid_기상청_공개_격자값과_일치() {
+        assertThat(KmaGridConverter.toGrid(37.571711, 126.986070))
+                .isEqualTo(new KmaGridConverter.GridPoint(60, 127));   // 서울 종로
+        assertThat(KmaGridConverter.toGrid(35.1798, 129.0750))
+                .isEqualTo(new KmaGridConverter.GridPoint(98, 76));    // 부산
+        assertThat(KmaGridConverter.toGrid(33.4996, 126.5312))
+                .isEqualTo(new KmaGridConverter.GridPoint(53, 38));    // 제주
+    }
+
+    @Test
+    void toLatLon_격자_중심_좌표_반환() {
+        KmaGridConverter.LatLon latLon = KmaGridConverter.toLatLon(60, 127);
+
+        assertThat(latLon.lat()).isCloseTo(37.579871, within(1e-5));
+        assertThat(latLon.lon()).isCloseTo(126.989352, within(1e-5));
+    }
+
+    @Test
+    void 격자_중심_좌표를_다시_변환하면_같은_격자() {
+        for (int nx = 1; nx <= 149; nx += 7) {
+            for (int ny = 1; ny <= 253; ny += 11) {
+                KmaGridConverter.LatLon latLon = KmaGridConverter.toLatLon(nx, ny);
+
+                assertThat(KmaGridConverter.toGrid(latLon.lat(), latLon.lon()))
+                        .isEqualTo(new KmaGridConverter.GridPoint(nx, ny));
+            }
+        }
+    }
+}
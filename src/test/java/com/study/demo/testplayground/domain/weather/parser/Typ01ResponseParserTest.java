@@ -0,0 +1,54 @@
+package com.study.demo.testplayground.domain.weather.parser;
+
+import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Typ01ResponseParserTest {
+
+    @Test
+    void 중기_기온_예보_잘못된_줄은_건너뛰고_앞뒤_줄은_파싱() {
+        String body = """
+                #START7777
+                # REG_ID TM_FC        TM_EF        MOD STN C MIN MAX MIN_L MIN_H MAX_L MAX_H
+                11B10101 202507020600 202507060000 A01 109 2  25  31    1    1    1    1
+                11B10102 202507020600 2025070      A01 109 2  24  30    1    1    1    1
+                11B10103 202507020600 202507060000 A01 109 2  X5  30    1    1    1    1
+                11B10104 202507020600 202507070000 A01 109 2  -3   5    1    1    1    1
+                #7777END
+                """;
+
+        List<WeatherResDTO.MediumTermTemperatureItem> items = Typ01ResponseParser.parseMediumTermTemperature(
+                body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+
+        assertThat(items).extracting(WeatherResDTO.MediumTermTemperatureItem::regId)
+                .containsExactly("11B10101", "11B10104");
+        assertThat(items.get(1).tmEf()).isEqualTo(LocalDateTime.of(2025, 7, 7, 0, 0));
+        assertThat(items.get(1).taMin3()).isEqualTo(-3);
+    }
+
+    @Test
+    void 중기_육상_예보_잘못된_줄은_건너뛰고_앞뒤_줄은_파싱() {
+        String body = """
+                #START7777
+                # REG_ID TM_FC        TM_EF        MOD STN C SKY  PRE  CONF WF    RN_ST
+                11B00000 202507020600 202507060000 A02 109 2 WB04 WB00 없음 "흐림" 40
+                11B00000 202507020600 202513060000 A02 109 2 WB04 WB00 없음 "흐림" 40
+                11B00000 202507020600 202507070000 A02 109 2 WB03 WB09 없음 "구름많고 비" 60
+                #7777END
+                """;
+
+        List<WeatherResDTO.MediumTermLandWeatherItem> items = Typ01ResponseParser.parseMediumTermLandWeather(
+                body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+
+        assertThat(items).extracting(WeatherResDTO.MediumTermLandWeatherItem::tmEf)
+                .containsExactly(LocalDateTime.of(2025, 7, 6, 0, 0), LocalDateTime.of(2025, 7, 7, 0, 0));
+        assertThat(items.get(1).wf3Am()).isEqualTo("구름많고 비");
+        assertThat(items.get(1).rnSt3Am()).isEqualTo(60);
+    }
+}
@@ -0,0 +1,216 @@
+package com.study.demo.testplayground.domain.weather.repository;
+
+import com.study.demo.testplayground.domain.weather.entity.RawMediumTermWeather;
+import com.study.demo.testplayground.domain.weather.entity.RawShortTermWeather;
+import com.study.demo.testplayground.domain.weather.entity.Region;
+import com.study.demo.testplayground.global.jdbc.TableIdAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 원시 예보 다중 행 upsert (MySQL 행 별칭 문법이므로 MySQL 컨테이너에서 실행, Docker가 없으면 생략)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "weather.ingestion.upsert-chunk-size=" + RawForecastUpsertTest.CHUNK_SIZE
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TableIdAllocator.class)
+class RawForecastUpsertTest {
+
+    static final int CHUNK_SIZE = 3;
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 7, 3);
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+    @Autowired
+    private RawShortTermWeatherRepository rawShortTermWeatherRepository;
+
+    @Autowired
+    private RawMediumTermWeatherRepository rawMediumTermWeatherRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Region region;
+
+    @BeforeEach
+    void setUp() {
+        region = em.persistAndFlush(Region.builder()
+                .name("서울")
+                .latitude(new BigDecimal("37.5"))
+                .longitude(new BigDecimal("127.0"))
+                .gridX(new BigDecimal("60"))
+                .gridY(new BigDecimal("127"))
+                .regCode("11B10101")
+                .build());
+    }
+
+    @Test
+    void 빈_목록이면_아무것도_저장하지_않음() {
+        assertThat(rawShortTermWeatherRepository.upsertAll(List.of())).isZero();
+        assertThat(rawMediumTermWeatherRepository.upsertAll(List.of())).isZero();
+        assertThat(countShortTerm()).isZero();
+    }
+
+    @Test
+    void 청크_크기만큼_저장() {
+        assertThat(rawShortTermWeatherRepository.upsertAll(shortTermRows(CHUNK_SIZE, 20.0))).isEqualTo(CHUNK_SIZE);
+        assertThat(countShortTerm()).isEqualTo(CHUNK_SIZE);
+    }
+
+    @Test
+    void 청크_크기를_한_행_넘으면_두_청크로_모두_저장() {
+        assertThat(rawShortTermWeatherRepository.upsertAll(shortTermRows(CHUNK_SIZE + 1, 20.0)))
+                .isEqualTo(CHUNK_SIZE + 1);
+        assertThat(rawMediumTermWeatherRepository.upsertAll(mediumTermRows(CHUNK_SIZE + 1, 25.0)))
+                .isEqualTo(CHUNK_SIZE + 1);
+
+        assertThat(countShortTerm()).isEqualTo(CHUNK_SIZE + 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM raw_medium_term_weather", Integer.class))
+                .isEqualTo(CHUNK_SIZE + 1);
+    }
+
+    @Test
+    void 단기_예보_키가_같으면_값만_갱신하고_id와_created_at_유지() {
+        rawShortTermWeatherRepository.upsertAll(shortTermRows(CHUNK_SIZE + 1, 20.0));
+        LocalDateTime createdAt = LocalDateTime.of(2025, 7, 1, 0, 0);
+        jdbcTemplate.update("UPDATE raw_short_term_weather SET created_at = ?", createdAt);
+        Map<String, Long> idsBefore = shortTermIdsByFcstTime();
+
+        rawShortTermWeatherRepository.upsertAll(shortTermRows(CHUNK_SIZE + 1, 25.0));
+
+        assertThat(countShortTerm()).isEqualTo(CHUNK_SIZE + 1);
+        assertThat(shortTermIdsByFcstTime()).isEqualTo(idsBefore);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT created_at FROM raw_short_term_weather", LocalDateTime.class))
+                .containsExactly(createdAt);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT tmp FROM raw_short_term_weather", Double.class))
+                .containsExactly(25.0);
+    }
+
+    @Test
+    void 중기_예보_키가_같으면_값만_갱신하고_id와_created_at_유지() {
+        rawMediumTermWeatherRepository.upsertAll(mediumTermRows(2, 25.0));
+        LocalDateTime createdAt = LocalDateTime.of(2025, 7, 1, 0, 0);
+        jdbcTemplate.update("UPDATE raw_medium_term_weather SET created_at = ?", createdAt);
+        List<Long> idsBefore = jdbcTemplate.queryForList(
+                "SELECT id FROM raw_medium_term_weather ORDER BY tmef", Long.class);
+
+        rawMediumTermWeatherRepository.upsertAll(mediumTermRows(2, 30.0));
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM raw_medium_term_weather ORDER BY tmef", Long.class))
+                .isEqualTo(idsBefore);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT created_at FROM raw_medium_term_weather", LocalDateTime.class))
+                .containsExactly(createdAt);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT max_tmp FROM raw_medium_term_weather", Double.class))
+                .containsExactly(30.0);
+    }
+
+    @Test
+    void 같은_날_06시와_18시_중기_발표분은_따로_저장() {
+        rawMediumTermWeatherRepository.upsertAll(mediumTermRows(BASE_DATE.atTime(6, 0), 2, 25.0));
+        rawMediumTermWeatherRepository.upsertAll(mediumTermRows(BASE_DATE.atTime(18, 0), 2, 30.0));
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT max_tmp FROM raw_medium_term_weather ORDER BY tmfc, tmef", Double.class))
+                .containsExactly(25.0, 25.0, 30.0, 30.0);
+    }
+
+    @Test
+    void 예보_키_유니크_제약으로_같은_예보를_두_번_삽입할_수_없음() {
+        rawShortTermWeatherRepository.upsertAll(shortTermRows(1, 20.0));
+        rawMediumTermWeatherRepository.upsertAll(mediumTermRows(1, 25.0));
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO raw_short_term_weather (id, region_id, base_date, base_time, fcst_date, fcst_time, " +
+                        "tmp, sky, pop, pty, pcp) SELECT id + 1000000, region_id, base_date, base_time, fcst_date, " +
+                        "fcst_time, tmp, sky, pop, pty, pcp FROM raw_short_term_weather"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO raw_medium_term_weather (id, region_id, tmfc, tmef, sky, pop, min_tmp, max_tmp) " +
+                        "SELECT id + 1000000, region_id, tmfc, tmef, sky, pop, min_tmp, max_tmp " +
+                        "FROM raw_medium_term_weather"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private List<RawShortTermWeather> shortTermRows(int count, double tmp) {
+        List<RawShortTermWeather> rows = new ArrayList<>();
+        for (int hour = 0; hour < count; hour++) {
+            rows.add(RawShortTermWeather.builder()
+                    .region(region)
+                    .baseDate(BASE_DATE)
+                    .baseTime("0500")
+                    .fcstDate(BASE_DATE)
+                    .fcstTime(String.format("%02d00", hour))
+                    .tmp(tmp)
+                    .sky("1")
+                    .pop(0.0)
+                    .pty("0")
+                    .pcp(0.0)
+                    .build());
+        }
+        return rows;
+    }
+
+    private List<RawMediumTermWeather> mediumTermRows(int count, double maxTmp) {
+        return mediumTermRows(BASE_DATE.atTime(6, 0), count, maxTmp);
+    }
+
+    private List<RawMediumTermWeather> mediumTermRows(LocalDateTime tmfc, int count, double maxTmp) {
+        List<RawMediumTermWeather> rows = new ArrayList<>();
+        for (int day = 0; day < count; day++) {
+            rows.add(RawMediumTermWeather.builder()
+                    .region(region)
+                    .tmfc(tmfc)
+                    .tmef(BASE_DATE.plusDays(3 + day))
+                    .sky("맑음")
+                    .pop(0.0)
+                    .minTmp(15.0)
+                    .maxTmp(maxTmp)
+                    .build());
+        }
+        return rows;
+    }
+
+    private int countShortTerm() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM raw_short_term_weather", Integer.class);
+    }
+
+    private Map<String, Long> shortTermIdsByFcstTime() {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT fcst_time, id FROM raw_short_term_weather",
+                (RowCallbackHandler) rs ->
+                        ids.put(rs.getString("fcst_time"), rs.getLong("id")));
+        return ids;
+    }
+}
@@ -0,0 +1,225 @@
+package com.study.demo.testplayground.domain.weather.service.query;
+
+import com.study.demo.testplayground.domain.weather.converter.KmaGridConverter;
+import com.study.demo.testplayground.domain.weather.dto.response.WeatherResDTO;
+import com.study.demo.testplayground.domain.weather.entity.DailyRecommendation;
+import com.study.demo.testplayground.domain.weather.entity.Keyword;
+import com.study.demo.testplayground.domain.weather.entity.Region;
+import com.study.demo.testplayground.domain.weather.entity.TemplateKeyword;
+import com.study.demo.testplayground.domain.weather.entity.WeatherTemplate;
+import com.study.demo.testplayground.domain.weather.entity.enums.PrecipCategory;
+import com.study.demo.testplayground.domain.weather.entity.enums.TempCategory;
+import com.study.demo.testplayground.domain.weather.entity.enums.WeatherType;
+import com.study.demo.testplayground.domain.weather.service.template.WeatherTemplateRegistry;
+import com.study.demo.testplayground.global.jdbc.TableIdAllocator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 추천 조회 API가 데이터 건수와 무관하게 고정된 쿼리 수로 응답하는지 확인
+ * 템플릿마다 키워드를 여러 개 연결해, 키워드를 지연 로딩하면 쿼리 수가 늘어나고 내용이 틀리면 실패하도록 구성
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({WeatherQueryService.class, RecommendationReadModel.class, WeatherTemplateRegistry.class, TableIdAllocator.class})
+class WeatherQueryServiceQueryCountTest {
+
+    private static final int MAX_DAYS = RecommendationReadModel.DAYS;
+    private static final int KEYWORDS_PER_TEMPLATE = 3;
+
+    @Autowired
+    private WeatherQueryService weatherQueryService;
+
+    @Autowired
+    private WeatherTemplateRegistry weatherTemplateRegistry;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "3, 4", "10, 7"})
+    void 주간_추천은_지역_조회와_범위_조회_두_번(int regionCount, int dayCount) {
+        Long regionId = seed(regionCount, dayCount);
+
+        var weekly = weatherQueryService.getWeeklyRecommendations(regionId);
+
+        assertThat(weekly.recommendations()).hasSize(dayCount);
+        assertThat(weekly.recommendations()).allSatisfy(this::assertKeywords);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 주간_추천을_한_번_조회한_뒤에는_읽기_모델에서_쿼리_없이_응답() {
+        Long regionId = seed(3, MAX_DAYS);
+
+        var first = weatherQueryService.getWeeklyRecommendations(regionId);
+        statistics.clear();
+
+        var second = weatherQueryService.getWeeklyRecommendations(regionId);
+        var daily = weatherQueryService.getDailyRecommendation(regionId, LocalDate.now().plusDays(3).toString());
+
+        assertThat(second).isEqualTo(first);
+        assertKeywords(daily);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 10})
+    void 일일_추천은_지역_조회와_추천_조회_두_번(int regionCount) {
+        Long regionId = seed(regionCount, MAX_DAYS);
+
+        var daily = weatherQueryService.getDailyRecommendation(regionId, LocalDate.now().plusDays(5).toString());
+
+        assertKeywords(daily);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 10})
+    void 오늘_요약은_지역_수와_무관하게_한_번(int regionCount) {
+        seed(regionCount, MAX_DAYS);
+
+        var summary = weatherQueryService.getTodayWeatherSummary();
+
+        assertThat(summary).hasSize(regionCount);
+        assertThat(summary).allSatisfy(this::assertKeywords);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 좌표_조회는_인접_격자의_더_가까운_지역을_선택() {
+        seed(0, MAX_DAYS);
+        double latitude = 37.5;
+        double longitude = 127.0;
+        KmaGridConverter.GridPoint grid = KmaGridConverter.toGrid(latitude, longitude);
+
+        // 같은 격자지만 먼 지역과 옆 격자지만 가까운 지역
+        persistRegionWithTodayRecommendation("같은격자", "37.52", "127.02", grid.nx(), grid.ny());
+        persistRegionWithTodayRecommendation("인접격자", "37.501", "127.001", grid.nx() + 1, grid.ny());
+
+        var info = weatherQueryService.getWeatherByCoordinate(latitude, longitude);
+
+        assertThat(info.regionName()).isEqualTo("인접격자");
+    }
+
+    private void persistRegionWithTodayRecommendation(String name, String latitude, String longitude, int nx, int ny) {
+        Region region = em.persist(Region.builder()
+                .name(name)
+                .latitude(new BigDecimal(latitude))
+                .longitude(new BigDecimal(longitude))
+                .gridX(BigDecimal.valueOf(nx))
+                .gridY(BigDecimal.valueOf(ny))
+                .regCode("11B2" + nx + ny)
+                .build());
+
+        TemplateKey key = TemplateKey.of(0);
+        em.persist(DailyRecommendation.builder()
+                .region(region)
+                .weatherTemplate(weatherTemplateRegistry.reference(key.weather(), key.tempCategory(), key.precipCategory()))
+                .forecastDate(LocalDate.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        em.flush();
+        em.clear();
+    }
+
+    /**
+     * 날짜마다 다른 템플릿에 키워드를 연결하고 지역·날짜별 추천 저장 (마지막 지역 ID 반환)
+     */
+    private Long seed(int regionCount, int dayCount) {
+        for (int day = 0; day < MAX_DAYS; day++) {
+            WeatherTemplate template = em.find(WeatherTemplate.class, templateFor(day).id());
+            for (String name : expectedKeywords(day)) {
+                Keyword keyword = em.persist(Keyword.builder().name(name).build());
+                em.persist(TemplateKeyword.builder().weatherTemplate(template).keyword(keyword).build());
+            }
+        }
+        em.flush();
+        em.clear();
+        weatherTemplateRegistry.refresh();
+
+        LocalDate today = LocalDate.now();
+        Long regionId = null;
+        for (int r = 0; r < regionCount; r++) {
+            Region region = em.persist(Region.builder()
+                    .name("지역" + r)
+                    .latitude(new BigDecimal("37.5"))
+                    .longitude(new BigDecimal("127.0"))
+                    .gridX(new BigDecimal("60"))
+                    .gridY(new BigDecimal("127"))
+                    .regCode("11B1010" + r)
+                    .build());
+
+            for (int day = 0; day < dayCount; day++) {
+                TemplateKey key = TemplateKey.of(day);
+                em.persist(DailyRecommendation.builder()
+                        .region(region)
+                        .weatherTemplate(weatherTemplateRegistry.reference(
+                                key.weather(), key.tempCategory(), key.precipCategory()))
+                        .forecastDate(today.plusDays(day))
+                        .updatedAt(LocalDateTime.now())
+                        .build());
+            }
+            regionId = region.getId();
+        }
+
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return regionId;
+    }
+
+    private void assertKeywords(WeatherResDTO.DailyRecommendationInfo info) {
+        int day = (int) ChronoUnit.DAYS.between(LocalDate.now(), info.forecastDate());
+        assertThat(info.keywords()).containsExactlyInAnyOrderElementsOf(expectedKeywords(day));
+    }
+
+    private WeatherTemplateRegistry.Template templateFor(int day) {
+        TemplateKey key = TemplateKey.of(day);
+        return weatherTemplateRegistry.get(key.weather(), key.tempCategory(), key.precipCategory());
+    }
+
+    private static List<String> expectedKeywords(int day) {
+        List<String> names = new ArrayList<>();
+        IntStream.range(0, KEYWORDS_PER_TEMPLATE).forEach(k -> names.add("키워드" + day + "-" + k));
+        return names;
+    }
+
+    // 날짜마다 서로 다른 (날씨, 기온, 강수) 조합
+    private record TemplateKey(WeatherType weather, TempCategory tempCategory, PrecipCategory precipCategory) {
+
+        static TemplateKey of(int day) {
+            WeatherType[] weathers = WeatherType.values();
+            TempCategory[] tempCategories = TempCategory.values();
+            return new TemplateKey(
+                    weathers[day % weathers.length],
+                    tempCategories[day / weathers.length % tempCategories.length],
+                    PrecipCategory.values()[0]);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.study.demo.testplayground.global.jdbc;
+
+import com.study.demo.testplayground.domain.weather.entity.Region;
+import com.study.demo.testplayground.global.entity.IdGeneration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JDBC 경로의 ID 구간과 Hibernate pooled-lo @TableGenerator가 받아 간 구간이 겹치지 않는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:table-id-allocator;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TableIdAllocator.class)
+class TableIdAllocatorTest {
+
+    private static final String SEQUENCE = "region";
+
+    @Autowired
+    private TableIdAllocator tableIdAllocator;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void JPA_저장과_번갈아_할당해도_ID가_겹치지_않음() {
+        Set<Long> jpaIds = new HashSet<>();
+        Set<Long> allocatedIds = new HashSet<>();
+        int persisted = 0;
+        int allocated = 0;
+
+        // 구간 크기(100)와 맞지 않는 개수로 번갈아 받아 구간 경계가 서로 엇갈리도록 구성
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 60; i++) {
+                jpaIds.add(em.persist(region(round * 100 + i)).getId());
+                persisted++;
+            }
+            em.flush();
+
+            for (long id : tableIdAllocator.allocate(SEQUENCE, 70)) {
+                allocatedIds.add(id);
+                allocated++;
+            }
+        }
+
+        assertThat(jpaIds).hasSize(persisted);
+        assertThat(allocatedIds).hasSize(allocated);
+        assertThat(jpaIds).doesNotContainAnyElementsOf(allocatedIds);
+    }
+
+    @Test
+    void 구간_크기보다_많이_요청해도_모두_다른_ID() {
+        long[] ids = tableIdAllocator.allocate(SEQUENCE, IdGeneration.ALLOCATION_SIZE * 2 + 50);
+        Set<Long> distinct = new HashSet<>();
+        for (long id : ids) {
+            distinct.add(id);
+        }
+
+        assertThat(distinct).hasSize(ids.length);
+        assertThat(em.persistAndFlush(region(0)).getId()).isNotIn(distinct);
+    }
+
+    private Region region(int index) {
+        return Region.builder()
+                .name("지역" + index)
+                .latitude(new BigDecimal("37.5"))
+                .longitude(new BigDecimal("127.0"))
+                .gridX(new BigDecimal("60"))
+                .gridY(new BigDecimal("127"))
+                .regCode("11B" + index)
+                .build();
+    }
+}